@@ -0,0 +1,79 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.track.TrackLoader;
+import ch.zhaw.pm2.racetrack.game.track.generator.TrackGenerator;
+import ch.zhaw.pm2.racetrack.game.track.generator.TrackShapeType;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Resolves the track names used as benchmark parameters.
+ * <p>A name is either the name of a bundled track file without extension (e.g. {@code challenge}) or a generated
+ * track in the form {@code SHAPE-WIDTHxHEIGHT} (e.g. {@code MAZE-401x201}).</p>
+ *
+ * @version 1.0.0
+ */
+public final class BenchmarkTracks {
+    private static final File TRACK_DIRECTORY = new File("tracks");
+    private static final String TRACK_FILE_EXTENSION = ".txt";
+    private static final long SEED = 42;
+
+    /**
+     * Private Constructor so no object of this class can ever be created.
+     */
+    private BenchmarkTracks() {
+    }
+
+    /**
+     * Loads or generates the rows of the track with the given name.
+     *
+     * @param trackName the bundled or generated track name
+     * @return the track rows
+     * @throws IOException if a bundled track could not be read
+     */
+    public static List<String> loadTrackRows(String trackName) throws IOException {
+        if (isGeneratedTrack(trackName)) {
+            return createGenerator(trackName).generateTrackRows();
+        }
+        return new TrackLoader().loadTrackFile(getBundledTrackFile(trackName));
+    }
+
+    /**
+     * Returns a file containing the track with the given name. Generated tracks are written into a temporary file.
+     *
+     * @param trackName the bundled or generated track name
+     * @return the track file
+     * @throws IOException if the generated track could not be written
+     */
+    public static File getTrackFile(String trackName) throws IOException {
+        if (isGeneratedTrack(trackName)) {
+            final File trackFile = File.createTempFile(trackName, TRACK_FILE_EXTENSION);
+            trackFile.deleteOnExit();
+            createGenerator(trackName).writeTrackFile(trackFile);
+            return trackFile;
+        }
+        return getBundledTrackFile(trackName);
+    }
+
+    private static File getBundledTrackFile(String trackName) throws IOException {
+        final File trackFile = new File(TRACK_DIRECTORY, trackName + TRACK_FILE_EXTENSION);
+        if (!trackFile.exists()) {
+            throw new IOException("Track file not found: " + trackFile.getAbsolutePath());
+        }
+        return trackFile;
+    }
+
+    private static boolean isGeneratedTrack(String trackName) {
+        return trackName.indexOf('-') > 0 && trackName.contains("x") && Character.isUpperCase(trackName.charAt(0));
+    }
+
+    private static TrackGenerator createGenerator(String trackName) {
+        final String[] shapeAndSize = trackName.split("-");
+        final String[] size = shapeAndSize[1].split("x");
+        final TrackGenerator generator = new TrackGenerator(TrackShapeType.valueOf(shapeAndSize[0]), SEED);
+        generator.setDimensions(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+        return generator;
+    }
+}
@@ -0,0 +1,64 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.track.FinishLineChecker;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PathCalculator;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the finish line check for a path which crosses the finish line and for one which does not.
+ * The check runs for every car turn.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FinishLineCheckerBenchmark {
+    @Param({"challenge", "oval-clock-up", "quarter-mile", "OVAL-200x100", "OPEN_FIELD-2001x1001"})
+    private String trackName;
+
+    private FinishLineChecker finishLineChecker;
+    private Car car;
+    private List<PositionVector> crossingPath;
+    private List<PositionVector> nonCrossingPath;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Track track = new Track(BenchmarkTracks.loadTrackRows(trackName));
+        final PathCalculator pathCalculator = new PathCalculator();
+        finishLineChecker = new FinishLineChecker(track);
+        car = track.getCar(0);
+        final PositionVector finishLinePoint = track.getFinishLineCoordinates().get(0);
+        final PositionVector crossingDirection = switch (track.getFinishLineSymbol()) {
+            case FINISH_UP -> new PositionVector(0, -1);
+            case FINISH_DOWN -> new PositionVector(0, 1);
+            case FINISH_LEFT -> new PositionVector(-1, 0);
+            default -> new PositionVector(1, 0);
+        };
+        crossingPath = pathCalculator.calculatePath(PositionVector.subtract(finishLinePoint, crossingDirection),
+            PositionVector.add(finishLinePoint, crossingDirection));
+        nonCrossingPath = pathCalculator.calculatePath(car.getPosition(), car.getPosition());
+    }
+
+    @Benchmark
+    public Car checkCrossingPath() {
+        finishLineChecker.checkFinishLineCrossings(car, crossingPath);
+        return car;
+    }
+
+    @Benchmark
+    public Car checkNonCrossingPath() {
+        finishLineChecker.checkFinishLineCrossings(car, nonCrossingPath);
+        return car;
+    }
+}
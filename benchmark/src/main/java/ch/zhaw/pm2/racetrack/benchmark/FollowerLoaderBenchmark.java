@@ -0,0 +1,91 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.path.follower.FollowerLoader;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PathCalculator;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.TRACK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures loading and converting follower files for the first car of the challenge track. The parameter is either
+ * a bundled follower file or the amount of waypoints of a generated follower file, whose waypoints are each in sight
+ * of the previous one.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FollowerLoaderBenchmark {
+    private static final File FOLLOWER_DIRECTORY = new File("follower");
+    private static final long SEED = 42;
+    private static final int MAX_WAYPOINT_STEP = 5;
+
+    @Param({"challenge_handout_points", "1000", "100000"})
+    private String followerFile;
+
+    private File file;
+    private Track track;
+    private Car car;
+
+    @Setup
+    public void setUp() throws IOException {
+        track = new Track(BenchmarkTracks.loadTrackRows("challenge"));
+        car = track.getCar(0);
+        if (Character.isDigit(followerFile.charAt(0))) {
+            file = createFollowerFile(Integer.parseInt(followerFile));
+        } else {
+            file = new File(FOLLOWER_DIRECTORY, followerFile + ".txt");
+        }
+    }
+
+    @Benchmark
+    public List<Direction> loadFollowerFile() throws IOException {
+        return new FollowerLoader().loadFollowerFile(file, track, car);
+    }
+
+    private File createFollowerFile(int waypointCount) throws IOException {
+        final File generatedFile = File.createTempFile("follower", ".txt");
+        generatedFile.deleteOnExit();
+        final Random random = new Random(SEED);
+        int x = car.getPosition().getX();
+        int y = car.getPosition().getY();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(generatedFile), UTF_8))) {
+            for (int waypoint = 0; waypoint < waypointCount; waypoint++) {
+                int nextX;
+                int nextY;
+                do {
+                    nextX = x + random.nextInt(2 * MAX_WAYPOINT_STEP + 1) - MAX_WAYPOINT_STEP;
+                    nextY = y + random.nextInt(2 * MAX_WAYPOINT_STEP + 1) - MAX_WAYPOINT_STEP;
+                } while (!isInSight(x, y, nextX, nextY));
+                x = nextX;
+                y = nextY;
+                writer.write("(X:" + x + ", Y:" + y + ")");
+                writer.write(System.lineSeparator());
+            }
+        }
+        return generatedFile;
+    }
+
+    private boolean isInSight(int startX, int startY, int endX, int endY) {
+        for (PositionVector position : new PathCalculator().calculatePath(new PositionVector(startX, startY), new PositionVector(endX, endY))) {
+            if (track.getSpaceType(position) != TRACK) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
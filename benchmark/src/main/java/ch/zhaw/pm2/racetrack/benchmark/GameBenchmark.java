@@ -0,0 +1,71 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.*;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.TRACK;
+
+/**
+ * Measures a car turn. Each invocation drives four turns (accelerate, brake, reverse, brake) which bring the car back
+ * to its starting position with zero velocity, so the game state stays the same across invocations.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameBenchmark {
+    private static final Direction[][] DIRECTION_CYCLES = {{RIGHT, LEFT}, {LEFT, RIGHT}, {UP, DOWN}, {DOWN, UP}};
+
+    @Param({"challenge", "oval-anticlock-right", "quarter-mile", "OVAL-200x100", "MAZE-1001x501", "OPEN_FIELD-2001x1001"})
+    private String trackName;
+
+    private Game game;
+    private Direction forward;
+    private Direction backward;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Track track = new Track(BenchmarkTracks.loadTrackRows(trackName));
+        game = new Game(track);
+        final Car car = track.getCar(game.getCurrentCarIndex());
+        for (Direction[] directionCycle : DIRECTION_CYCLES) {
+            final PositionVector neighbour = PositionVector.add(car.getPosition(), directionCycle[0].getVector());
+            if (track.getSpaceType(neighbour) == TRACK && !isOccupied(track, neighbour)) {
+                forward = directionCycle[0];
+                backward = directionCycle[1];
+                return;
+            }
+        }
+        throw new IllegalStateException("First car of " + trackName + " is not able to move");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void doCarTurn() {
+        game.doCarTurn(forward);
+        game.doCarTurn(backward);
+        game.doCarTurn(backward);
+        game.doCarTurn(forward);
+    }
+
+    private boolean isOccupied(Track track, PositionVector position) {
+        for (Car car : track.getCarsOnTrack()) {
+            if (car.getPosition().equals(position)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.GameSnapshot;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.NONE;
+
+/**
+ * Measures the building blocks of simulating futures in search-based bots: taking a snapshot, restoring it on a
+ * fork and forking a game. Forking must not depend on the size of the track.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameSnapshotBenchmark {
+    @Param({"challenge", "MAZE-1001x501"})
+    private String trackName;
+
+    private Game game;
+    private Game fork;
+    private GameSnapshot snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        game = new Game(new Track(BenchmarkTracks.loadTrackRows(trackName)));
+        fork = game.fork();
+        snapshot = game.createSnapshot();
+    }
+
+    @Benchmark
+    public GameSnapshot createSnapshot() {
+        return game.createSnapshot();
+    }
+
+    @Benchmark
+    public Game restoreSnapshotAndTurn() {
+        fork.restoreSnapshot(snapshot);
+        fork.doCarTurn(NONE);
+        return fork;
+    }
+
+    @Benchmark
+    public Game fork() {
+        return game.fork();
+    }
+}
@@ -0,0 +1,87 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSource;
+import ch.zhaw.pm2.racetrack.game.movelist.MoveListLoader;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures loading move list files. The parameter is either a bundled move list or the amount of moves of a
+ * generated move list. The streaming benchmarks read every move from a source, from the text file and from its
+ * packed copy.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveListLoaderBenchmark {
+    private static final File MOVE_DIRECTORY = new File("moves");
+    private static final long SEED = 42;
+
+    @Param({"challenge-car-a", "1000", "100000"})
+    private String moveList;
+
+    private final MoveListLoader moveListLoader = new MoveListLoader();
+    private File moveListFile;
+    private File packedMoveListFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (Character.isDigit(moveList.charAt(0))) {
+            moveListFile = createMoveListFile(Integer.parseInt(moveList));
+        } else {
+            moveListFile = new File(MOVE_DIRECTORY, moveList + ".txt");
+        }
+        packedMoveListFile = File.createTempFile("moves", ".rtm");
+        packedMoveListFile.deleteOnExit();
+        moveListLoader.writePackedMoveList(moveListLoader.openMoveListFile(moveListFile), packedMoveListFile);
+    }
+
+    @Benchmark
+    public List<Direction> loadMoveListFile() throws IOException {
+        return moveListLoader.loadMoveListFile(moveListFile);
+    }
+
+    @Benchmark
+    public int streamMoveListFile() throws IOException {
+        return countMoves(moveListLoader.openMoveListFile(moveListFile));
+    }
+
+    @Benchmark
+    public int streamPackedMoveListFile() throws IOException {
+        return countMoves(moveListLoader.openMoveListFile(packedMoveListFile));
+    }
+
+    private int countMoves(DirectionSource source) {
+        int checksum = 0;
+        while (source.hasNext()) {
+            checksum += source.next().ordinal();
+        }
+        return checksum;
+    }
+
+    private File createMoveListFile(int moveCount) throws IOException {
+        final File file = File.createTempFile("moves", ".txt");
+        file.deleteOnExit();
+        final Random random = new Random(SEED);
+        final Direction[] directions = Direction.values();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8))) {
+            for (int move = 0; move < moveCount; move++) {
+                writer.write(directions[random.nextInt(directions.length)].name());
+                writer.write(System.lineSeparator());
+            }
+        }
+        return file;
+    }
+}
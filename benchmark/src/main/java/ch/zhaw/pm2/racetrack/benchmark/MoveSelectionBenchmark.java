@@ -0,0 +1,42 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.path.finder.PathFinder;
+import ch.zhaw.pm2.racetrack.game.path.finder.PathPointFollower;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a path finder bot needs to choose its next move once the path is known. The car does not move,
+ * so every invocation ranks the moves of the same situation.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveSelectionBenchmark {
+    @Param({"challenge", "oval-anticlock-right", "OVAL-200x100", "MAZE-1001x501"})
+    private String trackName;
+
+    private PathPointFollower follower;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Track track = new Track(BenchmarkTracks.loadTrackRows(trackName));
+        final Game game = new Game(track);
+        follower = new PathPointFollower(new PathFinder(track, game.getCurrentCarIndex()), game.getCurrentCarIndex(), game);
+    }
+
+    @Benchmark
+    public Direction calculateNextMove() {
+        return follower.calculateNextMove();
+    }
+}
@@ -0,0 +1,39 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.util.PathCalculator;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Bresenham path calculation used for every car turn and every line of sight check.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathCalculatorBenchmark {
+    @Param({"1", "5", "50", "500"})
+    private int distance;
+
+    private final PathCalculator pathCalculator = new PathCalculator();
+    private PositionVector startPosition;
+    private PositionVector endPosition;
+
+    @Setup
+    public void setUp() {
+        startPosition = new PositionVector(0, 0);
+        endPosition = new PositionVector(distance, distance / 2);
+    }
+
+    @Benchmark
+    public List<PositionVector> calculatePath() {
+        return pathCalculator.calculatePath(startPosition, endPosition);
+    }
+}
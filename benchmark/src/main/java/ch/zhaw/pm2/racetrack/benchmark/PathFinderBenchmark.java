@@ -0,0 +1,37 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.path.finder.PathFinder;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the path search which runs when a path finder strategy is created.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathFinderBenchmark {
+    @Param({"challenge", "oval-anticlock-right", "oval-clock-up", "quarter-mile",
+        "OVAL-100x50", "MAZE-101x51", "SPIRAL-101x51", "OPEN_FIELD-101x51", "MAZE-201x101"})
+    private String trackName;
+
+    private Track track;
+
+    @Setup
+    public void setUp() throws IOException {
+        track = new Track(BenchmarkTracks.loadTrackRows(trackName));
+    }
+
+    @Benchmark
+    public PathFinder createPathFinder() {
+        return new PathFinder(track, 0);
+    }
+}
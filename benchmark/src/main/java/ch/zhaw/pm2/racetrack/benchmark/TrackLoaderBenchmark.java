@@ -0,0 +1,67 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.track.TrackCache;
+import ch.zhaw.pm2.racetrack.game.track.TrackLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a track file, reading plus validating and building the track, and loading the built track from a
+ * {@link TrackCache} as done when a game starts.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackLoaderBenchmark {
+    @Param({"challenge", "oval-anticlock-right", "quarter-mile", "OVAL-200x100", "MAZE-1001x501", "SPIRAL-2001x1001"})
+    private String trackName;
+
+    private final TrackLoader trackLoader = new TrackLoader();
+    private File trackFile;
+    private File cacheDirectory;
+    private TrackCache trackCache;
+
+    @Setup
+    public void setUp() throws IOException {
+        trackFile = BenchmarkTracks.getTrackFile(trackName);
+        cacheDirectory = Files.createTempDirectory("track-cache").toFile();
+        trackCache = new TrackCache(cacheDirectory);
+        trackCache.loadTrack(trackFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(trackCache.getEntry(trackFile).toPath());
+        Files.delete(cacheDirectory.toPath());
+    }
+
+    @Benchmark
+    public List<String> loadTrackFile() throws IOException {
+        return trackLoader.loadTrackFile(trackFile);
+    }
+
+    @Benchmark
+    public Track loadAndBuildTrack() throws IOException {
+        final List<String> trackFileRows = trackLoader.loadTrackFile(trackFile);
+        if (!trackLoader.isTrackFileValid(trackFileRows)) {
+            throw new IllegalStateException("Invalid track " + trackName);
+        }
+        return new Track(trackFileRows);
+    }
+
+    @Benchmark
+    public Track loadCachedTrack() throws IOException {
+        return trackCache.loadTrack(trackFile);
+    }
+}
@@ -0,0 +1,44 @@
+package ch.zhaw.pm2.racetrack.benchmark;
+
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.textbased.ViewportTrackRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the text representation of the track which is rendered every turn, as a whole and as a window around the
+ * first car.
+ *
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrackRenderBenchmark {
+    @Param({"challenge", "oval-anticlock-right", "quarter-mile", "OVAL-200x100", "MAZE-1001x501", "SPIRAL-2001x1001"})
+    private String trackName;
+
+    private Track track;
+    private ViewportTrackRenderer viewportTrackRenderer;
+
+    @Setup
+    public void setUp() throws IOException {
+        track = new Track(BenchmarkTracks.loadTrackRows(trackName));
+        viewportTrackRenderer = new ViewportTrackRenderer(80, 24);
+    }
+
+    @Benchmark
+    public String renderTrack() {
+        return track.toString();
+    }
+
+    @Benchmark
+    public String renderViewport() {
+        return viewportTrackRenderer.renderAround(track, track.getCarPos(0));
+    }
+}
@@ -0,0 +1,203 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.FastForwardMode;
+import ch.zhaw.pm2.racetrack.game.event.GameEventListener;
+import ch.zhaw.pm2.racetrack.game.metrics.InMemoryMetricsSink;
+import ch.zhaw.pm2.racetrack.game.metrics.MetricsSink;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Class containing various configuration information.
+ */
+
+public class Config implements ConfigSpecification {
+
+    // Directory containing the track files
+    private File trackDirectory = new File("tracks");
+
+    // Directory caching the built tracks, keyed by the content of their track files
+    private File trackCacheDirectory = new File(".track-cache");
+
+    // Directory containing the track files
+    private File moveDirectory = new File("moves");
+
+    // Directory containing the follower files
+    private File followerDirectory = new File("follower");
+
+    // Directory receiving the journal of every race, no journals are recorded if not set
+    private File journalDirectory;
+
+    // Whether bots selecting the path finder strategy search their moves with a monte carlo tree search
+    private boolean monteCarloPathFinder = false;
+
+    // Time a monte carlo path finder may spend on a single move
+    private Duration monteCarloTimeBudget = Duration.ofMillis(200);
+
+    // Whether the text based game redraws only the changed cells of the track, using ANSI cursor movements
+    private boolean ansiTerminal = false;
+
+    // Size of the window of the track shown around the car whose turn it is, the whole track is shown if 0
+    private int viewportWidth = 0;
+    private int viewportHeight = 0;
+
+    // When the turns of bots are played without showing each of them
+    private FastForwardMode fastForwardMode = FastForwardMode.AUTO;
+
+    // Least time between two frames of the track shown while fast forwarding
+    private Duration fastForwardFrameInterval = Duration.ofMillis(250);
+
+    // Time the engine may be warmed up before the race starts, the engine is not warmed up if zero
+    private Duration engineWarmUpBudget = Duration.ZERO;
+
+    // Sink receiving the metrics of every finished game
+    private MetricsSink metricsSink = new InMemoryMetricsSink();
+
+    // Listeners consuming the events of every game on threads of their own, no events are published if empty
+    private final List<GameEventListener> gameEventListeners = new ArrayList<>();
+
+    public File getMoveDirectory() {
+        return moveDirectory;
+    }
+
+    public void setMoveDirectory(File moveDirectory) {
+        Objects.requireNonNull(moveDirectory);
+        this.moveDirectory = moveDirectory;
+    }
+
+    public File getFollowerDirectory() {
+        return followerDirectory;
+    }
+
+    public void setFollowerDirectory(File followerDirectory) {
+        Objects.requireNonNull(followerDirectory);
+        this.followerDirectory = followerDirectory;
+    }
+
+    public File getTrackDirectory() {
+        return trackDirectory;
+    }
+
+    public void setTrackDirectory(File trackDirectory) {
+        Objects.requireNonNull(trackDirectory);
+        this.trackDirectory = trackDirectory;
+    }
+
+    public File getTrackCacheDirectory() {
+        return trackCacheDirectory;
+    }
+
+    public void setTrackCacheDirectory(File trackCacheDirectory) {
+        Objects.requireNonNull(trackCacheDirectory);
+        this.trackCacheDirectory = trackCacheDirectory;
+    }
+
+    public File getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public void setJournalDirectory(File journalDirectory) {
+        Objects.requireNonNull(journalDirectory);
+        this.journalDirectory = journalDirectory;
+    }
+
+    public boolean isMonteCarloPathFinder() {
+        return monteCarloPathFinder;
+    }
+
+    public void setMonteCarloPathFinder(boolean monteCarloPathFinder) {
+        this.monteCarloPathFinder = monteCarloPathFinder;
+    }
+
+    public Duration getMonteCarloTimeBudget() {
+        return monteCarloTimeBudget;
+    }
+
+    public void setMonteCarloTimeBudget(Duration monteCarloTimeBudget) {
+        Objects.requireNonNull(monteCarloTimeBudget);
+        this.monteCarloTimeBudget = monteCarloTimeBudget;
+    }
+
+    public boolean isAnsiTerminal() {
+        return ansiTerminal;
+    }
+
+    public void setAnsiTerminal(boolean ansiTerminal) {
+        this.ansiTerminal = ansiTerminal;
+    }
+
+    public int getViewportWidth() {
+        return viewportWidth;
+    }
+
+    public int getViewportHeight() {
+        return viewportHeight;
+    }
+
+    /**
+     * Sets the size of the window of the track shown to the players.
+     *
+     * @param viewportWidth  the amount of columns shown, 0 to show the whole track
+     * @param viewportHeight the amount of rows shown, 0 to show the whole track
+     * @throws IllegalArgumentException if a size is negative or only one of them is 0
+     */
+    public void setViewport(int viewportWidth, int viewportHeight) {
+        if (viewportWidth < 0 || viewportHeight < 0 || (viewportWidth == 0) != (viewportHeight == 0)) {
+            throw new IllegalArgumentException("Viewport size must be positive, or 0 for the whole track");
+        }
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+    }
+
+    public FastForwardMode getFastForwardMode() {
+        return fastForwardMode;
+    }
+
+    public void setFastForwardMode(FastForwardMode fastForwardMode) {
+        Objects.requireNonNull(fastForwardMode);
+        this.fastForwardMode = fastForwardMode;
+    }
+
+    public Duration getFastForwardFrameInterval() {
+        return fastForwardFrameInterval;
+    }
+
+    public void setFastForwardFrameInterval(Duration fastForwardFrameInterval) {
+        Objects.requireNonNull(fastForwardFrameInterval);
+        this.fastForwardFrameInterval = fastForwardFrameInterval;
+    }
+
+    public Duration getEngineWarmUpBudget() {
+        return engineWarmUpBudget;
+    }
+
+    public void setEngineWarmUpBudget(Duration engineWarmUpBudget) {
+        Objects.requireNonNull(engineWarmUpBudget);
+        this.engineWarmUpBudget = engineWarmUpBudget;
+    }
+
+    public MetricsSink getMetricsSink() {
+        return metricsSink;
+    }
+
+    public void setMetricsSink(MetricsSink metricsSink) {
+        Objects.requireNonNull(metricsSink);
+        this.metricsSink = metricsSink;
+    }
+
+    public List<GameEventListener> getGameEventListeners() {
+        return Collections.unmodifiableList(gameEventListeners);
+    }
+
+    public void addGameEventListener(GameEventListener gameEventListener) {
+        Objects.requireNonNull(gameEventListener);
+        gameEventListeners.add(gameEventListener);
+    }
+
+}
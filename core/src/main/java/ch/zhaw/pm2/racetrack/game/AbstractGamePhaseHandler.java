@@ -0,0 +1,384 @@
+package ch.zhaw.pm2.racetrack.game;
+
+import ch.zhaw.pm2.racetrack.Config;
+import ch.zhaw.pm2.racetrack.game.event.GameEventBus;
+import ch.zhaw.pm2.racetrack.game.event.GameEventListener;
+import ch.zhaw.pm2.racetrack.game.metrics.GameMetrics;
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSource;
+import ch.zhaw.pm2.racetrack.game.replay.RaceJournal;
+import ch.zhaw.pm2.racetrack.game.strategy.*;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.game.warmup.EngineWarmUp;
+import ch.zhaw.pm2.racetrack.game.warmup.WarmUpReport;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.LatencyMetric.MOVE_DECISION;
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.LatencyMetric.TRACK_RENDERING;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.*;
+
+/**
+ * The game phase handler that provides the methods to set up and start the main game.
+ * Class provides methods for the user interface specific implementations.
+ *
+ * @author abuechi
+ * @version 1.0.0
+ */
+public abstract class AbstractGamePhaseHandler {
+    private static final String RACE_JOURNAL_FILE_PREFIX = "race-";
+    private static final String RACE_JOURNAL_FILE_EXTENSION = ".rtj";
+    private static final long NO_SEED = 0;
+
+    private final Config config;
+    private Game game;
+    private RaceJournal raceJournal;
+    private GameEventBus eventBus;
+
+    /**
+     * Initializes the game phase handler with the required config object
+     *
+     * @param config the config object given by initializer class.
+     */
+    protected AbstractGamePhaseHandler(final Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Displays a welcome introduction when starting a game
+     */
+    protected abstract void displayGameIntroduction();
+
+    /**
+     * Method that is called once a winner is decided.
+     *
+     * @param winnerId the winners symbol or name
+     */
+    protected abstract void handleGameCompletedWithWinner(String winnerId);
+
+    /**
+     * Shows the user that turns changed
+     *
+     * @param currentCarId the char representation of the user who is next to play
+     */
+    protected abstract void displayChangeOfTurns(char currentCarId);
+
+    /**
+     * Displays the current track state
+     *
+     * @param track the track instance
+     */
+    protected abstract void displayTrack(Track track);
+
+    /**
+     * Shows how far a fast forwarded race has come, right after the track was displayed
+     *
+     * @param turns the amount of turns played so far
+     */
+    protected abstract void displayRaceProgress(int turns);
+
+    /**
+     * Informs the user that the engine warm up before the race ended
+     *
+     * @param report the report telling whether the engine is warm
+     */
+    protected abstract void informUserAboutEngineWarmUp(WarmUpReport report);
+
+    /**
+     * Displays an error when everyone selected no-move strategy
+     */
+    protected abstract void displayGameWithOnlyNoMovementAsStrategy();
+
+    /**
+     * Informs the user that the follower strategy was already selected as only one can select it at a time
+     */
+    protected abstract void informUserAboutFollowerStrategyAlreadySelected();
+
+    /**
+     * Informs the user that the journal of the race could not be saved
+     *
+     * @param journalFile the file that could not be written
+     */
+    protected abstract void informUserAboutRaceJournalNotSaved(File journalFile);
+
+    /**
+     * Informs the user that the metrics of the game could not be published
+     */
+    protected abstract void informUserAboutMetricsNotPublished();
+
+    /**
+     * Prompts the user to select a movement strategy for this game
+     *
+     * @param carId the users character representation
+     * @return aa selection
+     */
+    protected abstract int promptMovementStrategy(char carId);
+
+    /**
+     * Asks the user for the next acceleration
+     *
+     * @return the selected ordinal of the acceleration
+     */
+    protected abstract int promptAcceleration();
+
+    /**
+     * Retrieves the track file selector for the current game instance
+     *
+     * @return the file selector instance required for selecting a track file
+     */
+    protected abstract AbstractFileSelector<Track> getTrackFileSelector();
+
+    /**
+     * Retrieves the follower file loader for the current game instance
+     *
+     * @return the follower file loader  instance required for selecting a follower file
+     */
+    protected abstract AbstractFileSelector<List<Direction>> getFollowerFileLoader();
+
+    /**
+     * Retrieves the move list loader for the current game instance
+     *
+     * @return the move list file loader  instance required for selecting a move list file
+     */
+    protected abstract AbstractFileSelector<DirectionSource> getMoveListFileLoader();
+
+    /**
+     * Starts the game instance by going through the setup phase and main phase afterwards
+     */
+    public void startGame() {
+        startSetupPhase();
+        try {
+            if (hasNoMovementStrategyForAllPlayers()) {
+                renderTrack();
+                displayGameWithOnlyNoMovementAsStrategy();
+            } else {
+                warmUpEngine();
+                startMainPhase();
+            }
+        } finally {
+            if (eventBus != null) {
+                eventBus.close();
+            }
+            publishMetrics();
+            saveRaceJournal();
+            closeMoveStrategies();
+        }
+    }
+
+    private void startSetupPhase() {
+        displayGameIntroduction();
+        final AbstractFileSelector<Track> trackFileSelector = getTrackFileSelector();
+        game = new Game(trackFileSelector.selectFile());
+        if (config.getJournalDirectory() != null) {
+            raceJournal = new RaceJournal(game.getTrack(), NO_SEED);
+            game.setRaceJournal(raceJournal);
+        }
+        if (!config.getGameEventListeners().isEmpty()) {
+            eventBus = new GameEventBus();
+            for (GameEventListener listener : config.getGameEventListeners()) {
+                eventBus.subscribe(listener);
+            }
+            game.setEventBus(eventBus);
+        }
+        for (Car car : game.getTrack().getCarsOnTrack()) {
+            selectMovementStrategy(car);
+        }
+
+    }
+
+    /**
+     * Publishes the metrics of the game. Sinks must not propagate their failures, a failing sink is guarded against
+     * nevertheless, so neither the journal is lost nor an exception ending the game is hidden.
+     */
+    private void publishMetrics() {
+        try {
+            game.getMetrics().publish(config.getMetricsSink());
+        } catch (RuntimeException e) {
+            informUserAboutMetricsNotPublished();
+        }
+    }
+
+    /**
+     * Saves the journal of the race, if recorded, so it can be replayed later on. Also called if the race
+     * failed, as the journal is most valuable then.
+     */
+    private void saveRaceJournal() {
+        if (raceJournal != null) {
+            final File journalFile = new File(config.getJournalDirectory(),
+                RACE_JOURNAL_FILE_PREFIX + System.currentTimeMillis() + RACE_JOURNAL_FILE_EXTENSION);
+            try {
+                raceJournal.writeFile(journalFile);
+            } catch (IOException e) {
+                informUserAboutRaceJournalNotSaved(journalFile);
+            }
+        }
+    }
+
+    /**
+     * Warms up the engine on a fork of the game if a warm up budget is configured, so the first turns of the bots
+     * are as fast as the later ones.
+     */
+    private void warmUpEngine() {
+        final Duration warmUpBudget = config.getEngineWarmUpBudget();
+        if (!warmUpBudget.isZero()) {
+            informUserAboutEngineWarmUp(new EngineWarmUp(game, warmUpBudget).run());
+        }
+    }
+
+    /**
+     * Closes the move strategies of all cars, releasing e.g. move list files not read to their end.
+     */
+    private void closeMoveStrategies() {
+        for (Car car : game.getTrack().getCarsOnTrack()) {
+            if (car.getMoveStrategy() != null) {
+                car.getMoveStrategy().close();
+            }
+        }
+    }
+
+    /**
+     * Plays the turns until a car wins. Fast forwarded turns are not announced and the track is only displayed if
+     * the frame interval passed since it was displayed the last time.
+     */
+    private void startMainPhase() {
+        final boolean fastForwardAllowed = isFastForwardAllowed();
+        final long frameIntervalNanos = config.getFastForwardFrameInterval().toNanos();
+        long lastFrameNanos = System.nanoTime() - frameIntervalNanos;
+        int turns = 0;
+        while (!game.hasWinner()) {
+            if (!fastForwardAllowed || isUserTurn()) {
+                displayChangeOfTurns(game.getCarId(game.getCurrentCarIndex()));
+                renderTrack();
+            } else if (System.nanoTime() - lastFrameNanos >= frameIntervalNanos) {
+                renderTrack();
+                displayRaceProgress(turns);
+                lastFrameNanos = System.nanoTime();
+            }
+            doPlayerTurn();
+            turns++;
+            if (game.hasWinner()) {
+                handleGameCompletedWithWinner(String.valueOf(game.getCarId(game.getWinner())));
+            }
+            game.switchToNextActiveCar();
+        }
+    }
+
+    private boolean isFastForwardAllowed() {
+        return switch (config.getFastForwardMode()) {
+            case AUTO -> game.getTrack().getCarsOnTrack().stream()
+                .noneMatch(car -> car.getMoveStrategy().getMovementStrategyType() == USER);
+            case ON -> true;
+            case OFF -> false;
+        };
+    }
+
+    private boolean isUserTurn() {
+        return game.getTrack().getCar(game.getCurrentCarIndex()).getMoveStrategy().getMovementStrategyType() == USER;
+    }
+
+    private void doPlayerTurn() {
+        final Car car = game.getTrack().getCar(game.getCurrentCarIndex());
+        final Direction acceleration = getDirection(car.getMoveStrategy());
+        game.doCarTurn(acceleration);
+    }
+
+    private Direction getDirection(MoveStrategy moveStrategy) {
+        return switch (moveStrategy.getMovementStrategyType()) {
+            case DO_NOT_MOVE, PATH_FOLLOWER, MOVE_LIST, PATH_FINDER -> getMeasuredBotDirection(moveStrategy);
+            case USER -> moveStrategy.nextMove(promptAcceleration());
+        };
+    }
+
+    /**
+     * Asks a bot for its next move and records the decision latency. Users are not measured,
+     * as their latency is the time spent thinking.
+     */
+    private Direction getMeasuredBotDirection(MoveStrategy moveStrategy) {
+        final GameMetrics metrics = game.getMetrics();
+        final long decisionStart = metrics.startMeasurement();
+        final long allocationStart = metrics.startAllocationMeasurement();
+        final Direction direction = moveStrategy.nextMove();
+        metrics.stopAllocationMeasurement(allocationStart);
+        metrics.stopMeasurement(MOVE_DECISION, decisionStart);
+        return direction;
+    }
+
+    private void renderTrack() {
+        final long renderingStart = game.getMetrics().startMeasurement();
+        displayTrack(game.getTrack());
+        game.getMetrics().stopMeasurement(TRACK_RENDERING, renderingStart);
+    }
+
+    private void selectMovementStrategy(Car car) {
+        final int selectedMovementStrategy = promptMovementStrategy(car.getId());
+        final MoveStrategy moveStrategy = createMoveStrategyBySelection(selectedMovementStrategy, car);
+        if (moveStrategy != null) {
+            car.setMoveStrategy(moveStrategy);
+        } else {
+            selectMovementStrategy(car);
+        }
+    }
+
+    private boolean hasNoMovementStrategyForAllPlayers() {
+        for (Car car : game.getTrack().getCarsOnTrack()) {
+            if (car.getMoveStrategy().getMovementStrategyType() != DO_NOT_MOVE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFollowerStrategyAlreadySelected() {
+        for (Car car : game.getTrack().getCarsOnTrack()) {
+            if (car.getMoveStrategy() != null && car.getMoveStrategy().getMovementStrategyType() == PATH_FOLLOWER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A utility method to create a move strategy object by a selection made by the user
+     *
+     * @param selection the selection made by the user
+     * @return returns the related move strategy object used for the movement strategy in turns
+     */
+    private MoveStrategy createMoveStrategyBySelection(int selection, Car car) {
+        if (selection < values().length && selection >= 0) {
+            final StrategyType selectedMovementStrategy = values()[selection];
+            return switch (selectedMovementStrategy) {
+                case DO_NOT_MOVE -> new DoNotMoveStrategy();
+                case USER -> new UserMoveStrategy();
+                case MOVE_LIST -> new MoveListStrategy(getMoveListFileLoader().selectFile());
+                case PATH_FINDER -> createPathFinderStrategy();
+                case PATH_FOLLOWER -> {
+                    if (isFollowerStrategyAlreadySelected()) {
+                        informUserAboutFollowerStrategyAlreadySelected();
+                        selectMovementStrategy(car);
+                    }
+                    yield new PathFollowerMoveStrategy(getFollowerFileLoader().selectFile());
+                }
+            };
+        }
+        return null;
+    }
+
+    private MoveStrategy createPathFinderStrategy() {
+        if (config.isMonteCarloPathFinder()) {
+            return new MonteCarloMoveStrategy(game, config.getMonteCarloTimeBudget(), System.nanoTime());
+        }
+        return new PathFinderMoveStrategy(game);
+    }
+
+    protected Config getConfig() {
+        return config;
+    }
+
+    protected Game getGame() {
+        return game;
+    }
+}
@@ -12,7 +12,8 @@ import static ch.zhaw.pm2.racetrack.game.util.PositionVector.add;
  * Class representing a car on the racetrack.
  * Uses {@link PositionVector} to store current position on the track grid and current velocity vector.
  * Each car has an identifier character which represents the car on the race track board.
- * Also keeps the state, if the car is crashed (not active anymore). The state can not be changed back to uncrashed.
+ * Also keeps the state, if the car is crashed (not active anymore). The state can not be changed back to uncrashed,
+ * except by restoring a {@link GameSnapshot}.
  * The velocity is changed by providing an acelleration vector.
  * The car is able to calculate the endpoint of its next position and on request moves to it.
  */
@@ -101,14 +102,38 @@ public class Car implements CarSpecification {
     }
 
     /**
-     * Mark this Car as being crashed.
+     * Mark this Car as being crashed. The former move strategy is closed, releasing e.g. a move list file not read
+     * to its end.
      */
     @Override
     public void crash() {
         crashed = true;
+        if (moveStrategy != null) {
+            moveStrategy.close();
+        }
         this.moveStrategy = new DoNotMoveStrategy();
     }
 
+    /**
+     * Restores the state of this Car from a {@link GameSnapshot}. Restoring a crashed Car to a state before its
+     * crash does not bring back its former move strategy, which is irrelevant for simulated games.
+     *
+     * @param position            the position to restore
+     * @param velocity            the velocity to restore
+     * @param crashed             whether the Car is crashed
+     * @param finishLineCrossings the finish line crossings to restore
+     */
+    void restoreState(PositionVector position, PositionVector velocity, boolean crashed, int finishLineCrossings) {
+        this.position = position;
+        this.velocity = velocity;
+        this.finishLineCrossings = finishLineCrossings;
+        if (crashed && !this.crashed) {
+            crash();
+        } else {
+            this.crashed = crashed;
+        }
+    }
+
     /**
      * Returns whether this Car has been marked as crashed.
      *
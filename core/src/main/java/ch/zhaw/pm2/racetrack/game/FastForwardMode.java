@@ -0,0 +1,23 @@
+package ch.zhaw.pm2.racetrack.game;
+
+/**
+ * Tells when the turns of bots are played without showing each of them, so races of bots finish at the speed of the
+ * game instead of the speed of the display. Fast forwarded turns only show the track and the progress of the race
+ * from time to time, the end of the race is always shown. Turns of users are always shown.
+ *
+ * @version 1.0.0
+ */
+public enum FastForwardMode {
+    /**
+     * Fast forwards races without any user.
+     */
+    AUTO,
+    /**
+     * Fast forwards the turns of the bots, also in races with users.
+     */
+    ON,
+    /**
+     * Shows every turn.
+     */
+    OFF
+}
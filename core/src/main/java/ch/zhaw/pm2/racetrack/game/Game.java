@@ -1,5 +1,8 @@
 package ch.zhaw.pm2.racetrack.game;
 
+import ch.zhaw.pm2.racetrack.game.event.GameEventBus;
+import ch.zhaw.pm2.racetrack.game.metrics.GameMetrics;
+import ch.zhaw.pm2.racetrack.game.replay.RaceJournal;
 import ch.zhaw.pm2.racetrack.game.track.FinishLineChecker;
 import ch.zhaw.pm2.racetrack.game.track.Track;
 import ch.zhaw.pm2.racetrack.game.util.PathCalculator;
@@ -8,7 +11,11 @@ import ch.zhaw.pm2.racetrack.given.GameSpecification;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
+import static ch.zhaw.pm2.racetrack.game.event.GameEventType.*;
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.CounterMetric.*;
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.LatencyMetric.CAR_TURN;
 import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
 import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.WALL;
 
@@ -18,10 +25,15 @@ import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.WALL;
  * and if we have a winner.
  */
 public class Game implements GameSpecification {
+    public static final int NO_WINNER = -1;
     private static final int FIRST = 0;
     private final Track track;
     private final PathCalculator pathCalculator;
     private final FinishLineChecker finishLineChecker;
+    private final GameMetrics metrics;
+    private RaceJournal raceJournal;
+    private GameEventBus eventBus;
+    private int turn;
     private int currentCarIndex;
     private Car winner = null;
 
@@ -31,9 +43,33 @@ public class Game implements GameSpecification {
      * @param track the given track previously loaded by user.
      */
     public Game(Track track) {
+        this(track, new GameMetrics());
+    }
+
+    /**
+     * Creates a game with a specific track, recording into the given metrics. Games whose metrics are never
+     * published pass {@link GameMetrics#DISABLED}, so their turns are not measured at all.
+     *
+     * @param track   the given track previously loaded by user.
+     * @param metrics the metrics recording the turns of the game
+     */
+    public Game(Track track, GameMetrics metrics) {
         this.track = track;
         pathCalculator = new PathCalculator();
         finishLineChecker = new FinishLineChecker(track);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Creates a fork of the template game on a fork of its track. The finish line checker only reads the
+     * shared grid and is therefore shared as well. Forks record neither metrics nor journals and publish no events.
+     */
+    private Game(Game template) {
+        track = template.track.fork();
+        pathCalculator = template.pathCalculator;
+        finishLineChecker = template.finishLineChecker;
+        metrics = GameMetrics.DISABLED;
+        restoreSnapshot(template.createSnapshot());
     }
 
     /**
@@ -117,16 +153,30 @@ public class Game implements GameSpecification {
      */
     @Override
     public void doCarTurn(Direction acceleration) {
+        final long turnStart = metrics.startMeasurement();
+        final long allocationStart = metrics.startAllocationMeasurement();
+        if (raceJournal != null) {
+            raceJournal.append(acceleration);
+        }
         Car currentCar = track.getCarsOnTrack().get(currentCarIndex);
+        turn++;
+        if (eventBus != null) {
+            eventBus.publish(TURN_STARTED, turn, currentCarIndex, currentCar, null);
+        }
         PositionVector currentCarPosition = currentCar.getPosition();
+        final int finishLineCrossingsBeforeTurn = currentCar.getFinishLineCrossings();
         currentCar.accelerate(acceleration);
         final List<PositionVector> path = calculatePath(currentCarPosition, currentCar.nextPosition());
+        int scannedPathCells = 0;
         for (PositionVector nextPosition : path) {
+            scannedPathCells++;
             if (willCarCrash(currentCarIndex, nextPosition)) {
                 currentCar.crash();
                 currentCar.setPosition(nextPosition);
                 List<PositionVector> pathUntilCrash = calculatePath(currentCarPosition, nextPosition);
                 finishLineChecker.checkFinishLineCrossings(currentCar, pathUntilCrash);
+                metrics.increment(CRASHES, 1);
+                break;
             }
         }
         winByLastAlive();
@@ -135,6 +185,13 @@ public class Game implements GameSpecification {
             currentCar.move();
         }
         winByCrossingFinishLine();
+        if (eventBus != null) {
+            publishTurnResult(currentCar, acceleration, finishLineCrossingsBeforeTurn);
+        }
+        metrics.increment(PATH_CELLS_SCANNED, scannedPathCells);
+        metrics.increment(FINISH_LINE_CROSSINGS, Math.abs(currentCar.getFinishLineCrossings() - finishLineCrossingsBeforeTurn));
+        metrics.stopAllocationMeasurement(allocationStart);
+        metrics.stopMeasurement(CAR_TURN, turnStart);
     }
 
     /**
@@ -187,6 +244,92 @@ public class Game implements GameSpecification {
         return winner != null;
     }
 
+    /**
+     * Creates a snapshot of the dynamic state of this game.
+     *
+     * @return the snapshot
+     */
+    public GameSnapshot createSnapshot() {
+        final List<Car> cars = track.getCarsOnTrack();
+        final int[] state = new int[GameSnapshot.CAR_STATE_OFFSET + cars.size() * GameSnapshot.CAR_STATE_LENGTH];
+        state[GameSnapshot.CURRENT_CAR_INDEX] = currentCarIndex;
+        state[GameSnapshot.WINNER_INDEX] = getWinner();
+        int carStateIndex = GameSnapshot.CAR_STATE_OFFSET;
+        for (Car car : cars) {
+            state[carStateIndex + GameSnapshot.X] = car.getPosition().getX();
+            state[carStateIndex + GameSnapshot.Y] = car.getPosition().getY();
+            state[carStateIndex + GameSnapshot.VELOCITY_X] = car.getVelocity().getX();
+            state[carStateIndex + GameSnapshot.VELOCITY_Y] = car.getVelocity().getY();
+            state[carStateIndex + GameSnapshot.CRASHED] = car.isCrashed() ? 1 : 0;
+            state[carStateIndex + GameSnapshot.FINISH_LINE_CROSSINGS] = car.getFinishLineCrossings();
+            carStateIndex += GameSnapshot.CAR_STATE_LENGTH;
+        }
+        return new GameSnapshot(state);
+    }
+
+    /**
+     * Restores the dynamic state of this game from a snapshot of this game or one of its forks.
+     *
+     * @param snapshot the snapshot to restore
+     * @throws IllegalArgumentException if the snapshot was taken from a game with a different amount of cars
+     */
+    public void restoreSnapshot(GameSnapshot snapshot) {
+        final List<Car> cars = track.getCarsOnTrack();
+        if (snapshot.getCarCount() != cars.size()) {
+            throw new IllegalArgumentException("Snapshot does not match the amount of cars of this game");
+        }
+        for (int carIndex = 0; carIndex < cars.size(); carIndex++) {
+            final PositionVector position = new PositionVector(snapshot.getCarX(carIndex), snapshot.getCarY(carIndex));
+            final PositionVector velocity = new PositionVector(snapshot.getCarVelocityX(carIndex), snapshot.getCarVelocityY(carIndex));
+            cars.get(carIndex).restoreState(position, velocity, snapshot.isCarCrashed(carIndex), snapshot.getFinishLineCrossings(carIndex));
+        }
+        currentCarIndex = snapshot.getCurrentCarIndex();
+        winner = snapshot.getWinner() == NO_WINNER ? null : cars.get(snapshot.getWinner());
+    }
+
+    /**
+     * Creates a fork of this game, e.g. to simulate possible futures in a bot. Only the dynamic state is copied,
+     * the track grid is shared. The fork can be reset to any snapshot of this game with
+     * {@link #restoreSnapshot(GameSnapshot)}, so a single fork serves any amount of simulations.
+     * Its cars have no move strategies, the simulation decides on the accelerations.
+     *
+     * @return the fork in the current state of this game
+     */
+    public Game fork() {
+        return new Game(this);
+    }
+
+    /**
+     * Records all following turns into the given journal.
+     *
+     * @param raceJournal the journal to append the turns to, null to stop recording
+     */
+    public void setRaceJournal(RaceJournal raceJournal) {
+        this.raceJournal = raceJournal;
+    }
+
+    /**
+     * Publishes the events of all following turns on the given bus.
+     *
+     * @param eventBus the bus to publish the events on, null to stop publishing
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    private void publishTurnResult(Car currentCar, Direction acceleration, int finishLineCrossingsBeforeTurn) {
+        eventBus.publish(MOVE_RESOLVED, turn, currentCarIndex, currentCar, acceleration);
+        if (currentCar.isCrashed()) {
+            eventBus.publish(CAR_CRASHED, turn, currentCarIndex, currentCar, acceleration);
+        }
+        if (currentCar.getFinishLineCrossings() != finishLineCrossingsBeforeTurn) {
+            eventBus.publish(FINISH_LINE_CROSSED, turn, currentCarIndex, currentCar, acceleration);
+        }
+        if (hasWinner()) {
+            eventBus.publish(WINNER_DECIDED, turn, getWinner(), winner, acceleration);
+        }
+    }
+
     /**
      * This Method checks whether the current player will win the Game by crossing the finish line.
      */
@@ -236,4 +379,8 @@ public class Game implements GameSpecification {
     public Track getTrack() {
         return track;
     }
+
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
 }
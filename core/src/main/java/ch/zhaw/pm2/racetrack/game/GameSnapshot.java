@@ -0,0 +1,117 @@
+package ch.zhaw.pm2.racetrack.game;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the dynamic state of a {@link Game}: the current car, the winner and the position,
+ * velocity, crash state and finish line crossings of every car.
+ *
+ * <p>The state is kept in a single primitive array, so a snapshot is cheap to create, to compare and to keep
+ * in large numbers, e.g. by search-based bots or the replay of recorded races. The static state, the track
+ * grid, is not part of the snapshot. A snapshot can be restored on the game it was taken from and on all of
+ * its forks, see {@link Game#restoreSnapshot(GameSnapshot)} and {@link Game#fork()}.</p>
+ *
+ * @version 1.0.0
+ */
+public final class GameSnapshot {
+    static final int CURRENT_CAR_INDEX = 0;
+    static final int WINNER_INDEX = 1;
+    static final int CAR_STATE_OFFSET = 2;
+    static final int CAR_STATE_LENGTH = 6;
+    static final int X = 0;
+    static final int Y = 1;
+    static final int VELOCITY_X = 2;
+    static final int VELOCITY_Y = 3;
+    static final int CRASHED = 4;
+    static final int FINISH_LINE_CROSSINGS = 5;
+
+    private final int[] state;
+
+    /**
+     * Package private, snapshots are created by {@link Game#createSnapshot()}.
+     *
+     * @param state the packed state, not copied
+     */
+    GameSnapshot(int[] state) {
+        this.state = state;
+    }
+
+    /**
+     * Recreates a snapshot from the array returned by {@link #toArray()}.
+     *
+     * @param state the packed state
+     * @return the snapshot
+     * @throws IllegalArgumentException if the array does not contain a packed state
+     */
+    public static GameSnapshot fromArray(int[] state) {
+        if (state.length < CAR_STATE_OFFSET || (state.length - CAR_STATE_OFFSET) % CAR_STATE_LENGTH != 0) {
+            throw new IllegalArgumentException("Array does not contain a game snapshot");
+        }
+        return new GameSnapshot(state.clone());
+    }
+
+    /**
+     * Returns the packed state, e.g. to store it.
+     *
+     * @return a copy of the packed state
+     */
+    public int[] toArray() {
+        return state.clone();
+    }
+
+    int get(int index) {
+        return state[index];
+    }
+
+    int getCarState(int carIndex, int field) {
+        Objects.checkIndex(carIndex, getCarCount());
+        return state[CAR_STATE_OFFSET + carIndex * CAR_STATE_LENGTH + field];
+    }
+
+    public int getCurrentCarIndex() {
+        return state[CURRENT_CAR_INDEX];
+    }
+
+    public int getWinner() {
+        return state[WINNER_INDEX];
+    }
+
+    public int getCarCount() {
+        return (state.length - CAR_STATE_OFFSET) / CAR_STATE_LENGTH;
+    }
+
+    public int getCarX(int carIndex) {
+        return getCarState(carIndex, X);
+    }
+
+    public int getCarY(int carIndex) {
+        return getCarState(carIndex, Y);
+    }
+
+    public int getCarVelocityX(int carIndex) {
+        return getCarState(carIndex, VELOCITY_X);
+    }
+
+    public int getCarVelocityY(int carIndex) {
+        return getCarState(carIndex, VELOCITY_Y);
+    }
+
+    public boolean isCarCrashed(int carIndex) {
+        return getCarState(carIndex, CRASHED) == 1;
+    }
+
+    public int getFinishLineCrossings(int carIndex) {
+        return getCarState(carIndex, FINISH_LINE_CROSSINGS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof GameSnapshot otherSnapshot && Arrays.equals(state, otherSnapshot.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(state);
+    }
+}
@@ -0,0 +1,109 @@
+package ch.zhaw.pm2.racetrack.game.event;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+/**
+ * An event of a game, describing the state of a car at the time of the event.
+ *
+ * <p>Events are preallocated slots of the ring buffer of a {@link GameEventBus} and are filled in place when an
+ * event is published, so publishing does not allocate anything. The values are plain fields copied from the car,
+ * as the car keeps changing while the event is consumed.</p>
+ *
+ * @version 1.0.0
+ */
+public class GameEvent {
+    private long sequence;
+    private GameEventType type;
+    private int turn;
+    private int carIndex;
+    private char carId;
+    private int x;
+    private int y;
+    private int velocityX;
+    private int velocityY;
+    private Direction acceleration;
+    private int finishLineCrossings;
+
+    GameEvent() {
+    }
+
+    void set(long sequence, GameEventType type, int turn, int carIndex, Car car, Direction acceleration) {
+        this.sequence = sequence;
+        this.type = type;
+        this.turn = turn;
+        this.carIndex = carIndex;
+        this.acceleration = acceleration;
+        carId = car.getId();
+        x = car.getPosition().getX();
+        y = car.getPosition().getY();
+        velocityX = car.getVelocity().getX();
+        velocityY = car.getVelocity().getY();
+        finishLineCrossings = car.getFinishLineCrossings();
+    }
+
+    /**
+     * Returns the position of this event in the stream of all events published on the bus, starting at 0.
+     *
+     * @return the sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of the turn the event occurred in, counting the turns of all cars starting at 1.
+     *
+     * @return the turn number
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getCarIndex() {
+        return carIndex;
+    }
+
+    public char getCarId() {
+        return carId;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getVelocityX() {
+        return velocityX;
+    }
+
+    public int getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Returns the acceleration chosen for the turn.
+     *
+     * @return the acceleration, or null for {@link GameEventType#TURN_STARTED} events
+     */
+    public Direction getAcceleration() {
+        return acceleration;
+    }
+
+    public int getFinishLineCrossings() {
+        return finishLineCrossings;
+    }
+
+    @Override
+    public String toString() {
+        return sequence + " " + type + " turn " + turn + " car " + carId + " at (" + x + ", " + y + ") velocity ("
+            + velocityX + ", " + velocityY + ")";
+    }
+}
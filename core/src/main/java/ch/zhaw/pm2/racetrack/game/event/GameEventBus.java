@@ -0,0 +1,208 @@
+package ch.zhaw.pm2.racetrack.game.event;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands the events of a game from the game loop to any amount of listeners, each running on a thread of its own.
+ *
+ * <p>The events are written into a preallocated ring buffer by a single publishing thread, the game loop. Every
+ * listener follows the published events at its own pace with a sequence number of its own, so neither publishing
+ * nor consuming takes a lock or allocates anything. The game loop only waits if the slowest listener falls a whole
+ * buffer behind, which slows the game down to the pace of its listeners instead of losing events.</p>
+ *
+ * <p>Closing the bus lets the listeners consume all published events before their threads end.</p>
+ *
+ * @version 1.0.0
+ */
+public class GameEventBus implements Closeable {
+    /**
+     * Capacity used if none is given, enough for several hundred turns.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long CONSUMER_WAIT_NANOS = 1_000_000;
+    private static final long PUBLISHER_WAIT_NANOS = 10_000;
+    private static final Consumer[] NO_CONSUMERS = new Consumer[0];
+
+    private final GameEvent[] ring;
+    private final int mask;
+    private final AtomicLong publishedSequence = new AtomicLong(-1);
+    private volatile Consumer[] consumers = NO_CONSUMERS;
+    private volatile boolean closed;
+    private long nextSequence;
+    private long publisherWaits;
+
+    /**
+     * Creates a bus with a ring buffer of {@link #DEFAULT_CAPACITY} events.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a bus with a ring buffer of the given capacity.
+     *
+     * @param capacity the amount of events a listener may fall behind, a power of two
+     * @throws IllegalArgumentException if the capacity is no positive power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        ring = new GameEvent[capacity];
+        for (int slot = 0; slot < capacity; slot++) {
+            ring[slot] = new GameEvent();
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Starts a thread passing all events published from now on to the listener.
+     *
+     * @param listener the listener to add
+     * @throws IllegalStateException if the bus is closed
+     */
+    public synchronized void subscribe(GameEventListener listener) {
+        Objects.requireNonNull(listener);
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        final Consumer consumer = new Consumer(listener, publishedSequence.get());
+        consumer.thread = new Thread(consumer, "game-events-" + (consumers.length + 1));
+        consumer.thread.setDaemon(true);
+        final Consumer[] extendedConsumers = Arrays.copyOf(consumers, consumers.length + 1);
+        extendedConsumers[consumers.length] = consumer;
+        consumers = extendedConsumers;
+        consumer.thread.start();
+    }
+
+    /**
+     * Publishes an event about a car. Must only be called by a single thread.
+     *
+     * @param type         the kind of event
+     * @param turn         the number of the current turn
+     * @param carIndex     the index of the car
+     * @param car          the car, whose current state is copied into the event
+     * @param acceleration the acceleration of the turn, null if not chosen yet
+     * @throws IllegalStateException if the bus is closed
+     */
+    public void publish(GameEventType type, int turn, int carIndex, Car car, Direction acceleration) {
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        final long sequence = nextSequence++;
+        while (sequence - ring.length > getSlowestConsumedSequence()) {
+            publisherWaits++;
+            LockSupport.parkNanos(this, PUBLISHER_WAIT_NANOS);
+        }
+        ring[(int) sequence & mask].set(sequence, type, turn, carIndex, car, acceleration);
+        publishedSequence.lazySet(sequence);
+        for (Consumer consumer : consumers) {
+            if (consumer.waiting) {
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+    }
+
+    /**
+     * Waits until every listener has consumed all events published so far.
+     */
+    public void awaitConsumed() {
+        final long published = publishedSequence.get();
+        while (getSlowestConsumedSequence() < published) {
+            LockSupport.parkNanos(this, PUBLISHER_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * Returns how often publishing had to wait for a listener since the bus was created.
+     *
+     * @return the amount of waits of the publisher
+     */
+    public long getPublisherWaits() {
+        return publisherWaits;
+    }
+
+    /**
+     * Closes the bus and waits for the listeners to consume the events published so far.
+     */
+    @Override
+    public void close() {
+        final Consumer[] closedConsumers;
+        synchronized (this) {
+            closed = true;
+            closedConsumers = consumers;
+        }
+        for (Consumer consumer : closedConsumers) {
+            LockSupport.unpark(consumer.thread);
+        }
+        try {
+            for (Consumer consumer : closedConsumers) {
+                consumer.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long getSlowestConsumedSequence() {
+        long slowest = Long.MAX_VALUE;
+        for (Consumer consumer : consumers) {
+            slowest = Math.min(slowest, consumer.consumedSequence.get());
+        }
+        return slowest;
+    }
+
+    /**
+     * Follows the published events for a single listener.
+     */
+    private class Consumer implements Runnable {
+        private final GameEventListener listener;
+        private final AtomicLong consumedSequence;
+        private volatile boolean waiting;
+        private Thread thread;
+
+        private Consumer(GameEventListener listener, long consumedSequence) {
+            this.listener = listener;
+            this.consumedSequence = new AtomicLong(consumedSequence);
+        }
+
+        @Override
+        public void run() {
+            long sequence = consumedSequence.get() + 1;
+            while (true) {
+                final boolean closing = closed;
+                final long available = publishedSequence.get();
+                if (sequence <= available) {
+                    for (; sequence <= available; sequence++) {
+                        consume(ring[(int) sequence & mask]);
+                    }
+                    consumedSequence.lazySet(available);
+                } else if (closing) {
+                    return;
+                } else {
+                    waiting = true;
+                    if (publishedSequence.get() < sequence && !closed) {
+                        LockSupport.parkNanos(this, CONSUMER_WAIT_NANOS);
+                    }
+                    waiting = false;
+                }
+            }
+        }
+
+        private void consume(GameEvent event) {
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                // a failing listener must not stall the game, the event is skipped
+            }
+        }
+    }
+}
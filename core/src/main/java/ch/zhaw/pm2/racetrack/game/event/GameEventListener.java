@@ -0,0 +1,17 @@
+package ch.zhaw.pm2.racetrack.game.event;
+
+/**
+ * Consumes the events of a {@link GameEventBus} on a thread of its own.
+ *
+ * @version 1.0.0
+ */
+public interface GameEventListener {
+    /**
+     * Receives the next event. The event is a slot of the ring buffer which is reused once all listeners are done
+     * with it, so its values have to be copied if they are needed later on. Exceptions thrown by this method are
+     * ignored, so a failing listener does not stall the game.
+     *
+     * @param event the event, only valid during this call
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,29 @@
+package ch.zhaw.pm2.racetrack.game.event;
+
+/**
+ * The kinds of events published by a game while a car does its turn, in the order they occur within a turn.
+ *
+ * @version 1.0.0
+ */
+public enum GameEventType {
+    /**
+     * A car starts its turn, the event holds its state before the move.
+     */
+    TURN_STARTED,
+    /**
+     * A car has moved, the event holds the acceleration and its state after the move.
+     */
+    MOVE_RESOLVED,
+    /**
+     * A car crashed into a wall or another car during its move.
+     */
+    CAR_CRASHED,
+    /**
+     * A car crossed the finish line, the event holds its crossings in the correct direction so far.
+     */
+    FINISH_LINE_CROSSED,
+    /**
+     * The race has been decided, the event holds the winning car.
+     */
+    WINNER_DECIDED
+}
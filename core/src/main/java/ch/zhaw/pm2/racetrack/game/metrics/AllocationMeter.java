@@ -0,0 +1,38 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Estimates the bytes allocated by the current thread, using the allocation counter of the HotSpot JVM.
+ * On JVMs without such a counter all estimates are 0.
+ *
+ * @version 1.0.0
+ */
+final class AllocationMeter {
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = findThreadMxBean();
+
+    /**
+     * Private Constructor so no object of this class can ever be created.
+     */
+    private AllocationMeter() {
+    }
+
+    /**
+     * Returns the total amount of bytes allocated by the current thread so far.
+     *
+     * @return the allocated bytes or 0 if not supported
+     */
+    static long getAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadMxBean() {
+        final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        if (threadMxBean instanceof com.sun.management.ThreadMXBean allocationMxBean
+            && allocationMxBean.isThreadAllocatedMemorySupported() && allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationMxBean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+import ch.zhaw.pm2.racetrack.game.metrics.MetricsReport.LatencySummary;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sink appending every report as CSV rows to a writer. Each report starts with a header row, latencies and
+ * counters share the same columns, the columns not applicable to a row are left empty.
+ *
+ * @version 1.0.0
+ */
+public class CsvMetricsExporter implements MetricsSink {
+    private static final String HEADER = "created_at,type,name,count,min,mean,p50,p90,p99,p999,max,value";
+
+    private final Writer writer;
+
+    /**
+     * Creates an exporter writing to the given writer. The writer is flushed after every report.
+     *
+     * @param writer the writer to append the rows to
+     */
+    public CsvMetricsExporter(Writer writer) {
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    /**
+     * Writes the report. A report that could not be written is reported on the standard error stream, as failures
+     * must not be propagated to the game.
+     *
+     * @param report the published report
+     */
+    @Override
+    public synchronized void publish(MetricsReport report) {
+        final StringBuilder rows = new StringBuilder(HEADER).append(System.lineSeparator());
+        for (Map.Entry<String, LatencySummary> entry : report.getLatencies().entrySet()) {
+            final LatencySummary summary = entry.getValue();
+            rows.append(report.getCreatedAtMillis()).append(",latency,").append(entry.getKey()).append(',')
+                .append(summary.getCount()).append(',').append(summary.getMin()).append(',')
+                .append(Math.round(summary.getMean())).append(',').append(summary.getP50()).append(',')
+                .append(summary.getP90()).append(',').append(summary.getP99()).append(',')
+                .append(summary.getP999()).append(',').append(summary.getMax()).append(',')
+                .append(System.lineSeparator());
+        }
+        for (Map.Entry<String, Long> entry : report.getCounters().entrySet()) {
+            rows.append(report.getCreatedAtMillis()).append(",counter,").append(entry.getKey())
+                .append(",,,,,,,,,").append(entry.getValue()).append(System.lineSeparator());
+        }
+        try {
+            writer.write(rows.toString());
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("The metrics report could not be written: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Collects the metrics of a single game: latency histograms of the measured operations and counters of
+ * game events. Every game owns its metrics, so no synchronisation is needed while recording.
+ *
+ * <p>Measured sections are bracketed by {@link #startMeasurement()} and
+ * {@link #stopMeasurement(LatencyMetric, long)}, allocations by {@link #startAllocationMeasurement()} and
+ * {@link #stopAllocationMeasurement(long)}. The collected values are handed to a {@link MetricsSink} with
+ * {@link #publish(MetricsSink)}.</p>
+ *
+ * @version 1.0.0
+ */
+public class GameMetrics {
+    /**
+     * Operations whose latency is recorded.
+     */
+    public enum LatencyMetric {
+        CAR_TURN, MOVE_DECISION, PATH_FINDER_CREATION, PATH_FINDER_SEARCH, PATH_FINDER_SMOOTHING, TRACK_RENDERING
+    }
+
+    /**
+     * Counted game events and estimates. {@link #PATH_FINDER_PEAK_FRONTIER} holds the maximum of all searches,
+     * all other counters the sum.
+     */
+    public enum CounterMetric {
+        CRASHES, FINISH_LINE_CROSSINGS, PATH_CELLS_SCANNED, ALLOCATED_BYTES,
+        PATH_FINDER_EXPANDED_NODES, PATH_FINDER_VISITED_NODES, PATH_FINDER_PEAK_FRONTIER, PATH_FINDER_LINE_OF_SIGHT_CHECKS,
+        SEARCH_ITERATIONS
+    }
+
+    /**
+     * Metrics ignoring everything recorded, e.g. for simulated games of bots. Shared by all such games.
+     */
+    public static final GameMetrics DISABLED = new GameMetrics(false);
+
+    private final boolean enabled;
+    private final LatencyHistogram[] latencies = new LatencyHistogram[LatencyMetric.values().length];
+    private final long[] counters = new long[CounterMetric.values().length];
+
+    /**
+     * Creates empty metrics.
+     */
+    public GameMetrics() {
+        this(true);
+    }
+
+    private GameMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (int index = 0; index < latencies.length; index++) {
+            latencies[index] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Starts to measure the latency of an operation.
+     *
+     * @return the start time to pass to {@link #stopMeasurement(LatencyMetric, long)}
+     */
+    public long startMeasurement() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since the measurement was started.
+     *
+     * @param metric     the measured operation
+     * @param startNanos the start time returned by {@link #startMeasurement()}
+     */
+    public void stopMeasurement(LatencyMetric metric, long startNanos) {
+        if (enabled) {
+            latencies[metric.ordinal()].record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records a latency measured elsewhere.
+     *
+     * @param metric the measured operation
+     * @param nanos  the latency in nanoseconds
+     */
+    public void record(LatencyMetric metric, long nanos) {
+        if (enabled) {
+            latencies[metric.ordinal()].record(nanos);
+        }
+    }
+
+    /**
+     * Starts to estimate the bytes allocated by the current thread.
+     *
+     * @return the allocation counter to pass to {@link #stopAllocationMeasurement(long)}
+     */
+    public long startAllocationMeasurement() {
+        return enabled ? AllocationMeter.getAllocatedBytes() : 0;
+    }
+
+    /**
+     * Adds the bytes allocated by the current thread since the measurement was started to
+     * {@link CounterMetric#ALLOCATED_BYTES}.
+     *
+     * @param startBytes the allocation counter returned by {@link #startAllocationMeasurement()}
+     */
+    public void stopAllocationMeasurement(long startBytes) {
+        if (enabled) {
+            increment(CounterMetric.ALLOCATED_BYTES, AllocationMeter.getAllocatedBytes() - startBytes);
+        }
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param metric the counter to increment
+     * @param amount the amount to add
+     */
+    public void increment(CounterMetric metric, long amount) {
+        if (enabled) {
+            counters[metric.ordinal()] += amount;
+        }
+    }
+
+    /**
+     * Raises a counter to the given value if it is currently lower.
+     *
+     * @param metric the counter holding a maximum
+     * @param value  the value to compare with
+     */
+    public void updateMaximum(CounterMetric metric, long value) {
+        if (enabled) {
+            counters[metric.ordinal()] = Math.max(counters[metric.ordinal()], value);
+        }
+    }
+
+    /**
+     * Creates an immutable report of the values collected so far.
+     *
+     * @return the report
+     */
+    public MetricsReport createReport() {
+        final MetricsReport report = new MetricsReport();
+        for (LatencyMetric metric : LatencyMetric.values()) {
+            report.addLatencies(toMetricName(metric), getLatencies(metric));
+        }
+        for (CounterMetric metric : CounterMetric.values()) {
+            report.addCounter(toMetricName(metric), getCounter(metric));
+        }
+        return report;
+    }
+
+    /**
+     * Hands a report of the values collected so far to the given sink.
+     *
+     * @param sink the sink receiving the report
+     */
+    public void publish(MetricsSink sink) {
+        Objects.requireNonNull(sink).publish(createReport());
+    }
+
+    /**
+     * Removes all collected values.
+     */
+    public void reset() {
+        if (!enabled) {
+            return;
+        }
+        for (LatencyHistogram histogram : latencies) {
+            histogram.reset();
+        }
+        Arrays.fill(counters, 0);
+    }
+
+    public LatencyHistogram getLatencies(LatencyMetric metric) {
+        return latencies[metric.ordinal()];
+    }
+
+    public long getCounter(CounterMetric metric) {
+        return counters[metric.ordinal()];
+    }
+
+    private static String toMetricName(Enum<?> metric) {
+        return metric.name().toLowerCase();
+    }
+}
@@ -0,0 +1,37 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sink keeping all published reports in memory, e.g. for tests or to compare runs.
+ * Games may publish concurrently.
+ *
+ * @version 1.0.0
+ */
+public class InMemoryMetricsSink implements MetricsSink {
+    private final List<MetricsReport> reports = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(MetricsReport report) {
+        reports.add(report);
+    }
+
+    /**
+     * Returns all reports published so far.
+     *
+     * @return the reports in the order of publication
+     */
+    public synchronized List<MetricsReport> getReports() {
+        return new ArrayList<>(reports);
+    }
+
+    /**
+     * Returns the report published last.
+     *
+     * @return the last report or null if none was published
+     */
+    public synchronized MetricsReport getLastReport() {
+        return reports.isEmpty() ? null : reports.get(reports.size() - 1);
+    }
+}
@@ -0,0 +1,66 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+import ch.zhaw.pm2.racetrack.game.metrics.MetricsReport.LatencySummary;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sink appending every report as a single line JSON object to a writer (JSON lines).
+ * Metric names are plain identifiers, so no escaping is needed.
+ *
+ * @version 1.0.0
+ */
+public class JsonMetricsExporter implements MetricsSink {
+    private final Writer writer;
+
+    /**
+     * Creates an exporter writing to the given writer. The writer is flushed after every report.
+     *
+     * @param writer the writer to append the objects to
+     */
+    public JsonMetricsExporter(Writer writer) {
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    /**
+     * Writes the report. A report that could not be written is reported on the standard error stream, as failures
+     * must not be propagated to the game.
+     *
+     * @param report the published report
+     */
+    @Override
+    public synchronized void publish(MetricsReport report) {
+        final StringBuilder json = new StringBuilder("{\"createdAt\":").append(report.getCreatedAtMillis())
+            .append(",\"latencies\":{");
+        String separator = "";
+        for (Map.Entry<String, LatencySummary> entry : report.getLatencies().entrySet()) {
+            final LatencySummary summary = entry.getValue();
+            json.append(separator).append('"').append(entry.getKey()).append("\":{")
+                .append("\"count\":").append(summary.getCount())
+                .append(",\"min\":").append(summary.getMin())
+                .append(",\"mean\":").append(Math.round(summary.getMean()))
+                .append(",\"p50\":").append(summary.getP50())
+                .append(",\"p90\":").append(summary.getP90())
+                .append(",\"p99\":").append(summary.getP99())
+                .append(",\"p999\":").append(summary.getP999())
+                .append(",\"max\":").append(summary.getMax()).append('}');
+            separator = ",";
+        }
+        json.append("},\"counters\":{");
+        separator = "";
+        for (Map.Entry<String, Long> entry : report.getCounters().entrySet()) {
+            json.append(separator).append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+            separator = ",";
+        }
+        json.append("}}").append(System.lineSeparator());
+        try {
+            writer.write(json.toString());
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("The metrics report could not be written: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Histogram for latencies in nanoseconds, modelled after the HdrHistogram.
+ *
+ * <p>Values are counted in logarithmic buckets which are split into {@link #SUB_BUCKET_COUNT} linear sub buckets,
+ * so every recorded value is stored with a relative precision of about 3% in a fixed array. Recording is
+ * allocation free and takes constant time. The histogram is not thread safe, every game records into its own.</p>
+ *
+ * @version 1.0.0
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = getBucketIndex(Long.MAX_VALUE) + 1;
+    private static final double MAX_PERCENTILE = 100.0;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        final long recordedValue = Math.max(0, value);
+        counts[getBucketIndex(recordedValue)]++;
+        totalCount++;
+        sum += recordedValue;
+        min = Math.min(min, recordedValue);
+        max = Math.max(max, recordedValue);
+    }
+
+    /**
+     * Adds all values recorded by another histogram to this one.
+     *
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            counts[index] += other.counts[index];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Calculates the value below which the given percentage of the recorded values fall.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the value at the percentile, with the precision of its bucket, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        final double boundedPercentile = Math.min(Math.max(percentile, 0), MAX_PERCENTILE);
+        final long rank = Math.max(1, (long) Math.ceil(boundedPercentile / MAX_PERCENTILE * totalCount));
+        long countBelow = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            countBelow += counts[index];
+            if (countBelow >= rank) {
+                return Math.max(min, Math.min(getHighestValueInBucket(index), max));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    private static long getLowestValueInBucket(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (index - shift * SUB_BUCKET_COUNT) << shift;
+    }
+
+    private static long getHighestValueInBucket(int index) {
+        return index + 1 < BUCKET_COUNT ? getLowestValueInBucket(index + 1) - 1 : Long.MAX_VALUE;
+    }
+}
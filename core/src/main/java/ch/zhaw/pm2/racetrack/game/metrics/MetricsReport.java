@@ -0,0 +1,100 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the metrics of a game as handed to a {@link MetricsSink}.
+ * Latencies are summarized by their percentiles, all values are in nanoseconds.
+ *
+ * @version 1.0.0
+ */
+public class MetricsReport {
+    private final long createdAtMillis = System.currentTimeMillis();
+    private final Map<String, LatencySummary> latencies = new LinkedHashMap<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+
+    /**
+     * Package private, reports are created by {@link GameMetrics#createReport()}.
+     */
+    MetricsReport() {
+    }
+
+    void addLatencies(String name, LatencyHistogram histogram) {
+        latencies.put(name, new LatencySummary(histogram));
+    }
+
+    void addCounter(String name, long value) {
+        counters.put(name, value);
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public Map<String, LatencySummary> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    public Map<String, Long> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Percentiles of the latencies of one operation.
+     */
+    public static class LatencySummary {
+        private final long count;
+        private final long min;
+        private final double mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long p999;
+        private final long max;
+
+        private LatencySummary(LatencyHistogram histogram) {
+            count = histogram.getCount();
+            min = histogram.getMin();
+            mean = histogram.getMean();
+            p50 = histogram.getValueAtPercentile(50);
+            p90 = histogram.getValueAtPercentile(90);
+            p99 = histogram.getValueAtPercentile(99);
+            p999 = histogram.getValueAtPercentile(99.9);
+            max = histogram.getMax();
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getP999() {
+            return p999;
+        }
+
+        public long getMax() {
+            return max;
+        }
+    }
+}
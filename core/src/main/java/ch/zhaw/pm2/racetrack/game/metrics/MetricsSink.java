@@ -0,0 +1,15 @@
+package ch.zhaw.pm2.racetrack.game.metrics;
+
+/**
+ * Receives the metric reports published by games, e.g. to keep or export them.
+ *
+ * @version 1.0.0
+ */
+public interface MetricsSink {
+    /**
+     * Receives a report. Failures to process the report must not be propagated to the game.
+     *
+     * @param report the published report
+     */
+    void publish(MetricsReport report);
+}
@@ -0,0 +1,135 @@
+package ch.zhaw.pm2.racetrack.game.movelist;
+
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable sequence of moves, stored as one byte per move.
+ *
+ * <p>The sequence is never modified, it is read through {@link Cursor cursors} instead. Any amount of strategies,
+ * also in concurrent simulations, can follow the same sequence with their own cursor, so a move list loaded once
+ * is kept in memory once no matter in how many games it is replayed.</p>
+ *
+ * @version 1.0.0
+ */
+public final class DirectionSequence {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final byte[] directions;
+
+    /**
+     * Creates a sequence containing the given moves.
+     *
+     * @param directions the moves, copied into the sequence
+     */
+    public DirectionSequence(List<Direction> directions) {
+        this.directions = new byte[directions.size()];
+        for (int index = 0; index < this.directions.length; index++) {
+            this.directions[index] = (byte) directions.get(index).ordinal();
+        }
+    }
+
+    private DirectionSequence(byte[] directions) {
+        this.directions = directions;
+    }
+
+    /**
+     * Reads all remaining moves of a source into a sequence.
+     *
+     * @param source the source to read, consumed by this method
+     * @return the sequence of the read moves
+     */
+    public static DirectionSequence readFrom(DirectionSource source) {
+        byte[] directions = new byte[INITIAL_CAPACITY];
+        int size = 0;
+        while (source.hasNext()) {
+            if (size == directions.length) {
+                directions = Arrays.copyOf(directions, directions.length * 2);
+            }
+            directions[size++] = (byte) source.next().ordinal();
+        }
+        return new DirectionSequence(Arrays.copyOf(directions, size));
+    }
+
+    /**
+     * Returns the move at the given index.
+     *
+     * @param index the zero-based index of the move
+     * @return the acceleration of the move
+     */
+    public Direction get(int index) {
+        Objects.checkIndex(index, directions.length);
+        return DirectionCodec.fromOrdinal(directions[index]);
+    }
+
+    /**
+     * Returns the amount of moves.
+     *
+     * @return the length of the sequence
+     */
+    public int size() {
+        return directions.length;
+    }
+
+    /**
+     * Creates a new cursor positioned before the first move.
+     *
+     * @return the cursor
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Read position in a sequence, owned by a single reader.
+     */
+    public class Cursor implements DirectionSource {
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            return position < directions.length;
+        }
+
+        @Override
+        public Direction next() {
+            final Direction direction = peek();
+            position++;
+            return direction;
+        }
+
+        /**
+         * Returns the next move without moving the cursor.
+         *
+         * @return the acceleration of the next move
+         * @throws NoSuchElementException if there are no more moves
+         */
+        public Direction peek() {
+            if (position >= directions.length) {
+                throw new NoSuchElementException();
+            }
+            return DirectionCodec.fromOrdinal(directions[position]);
+        }
+
+        /**
+         * Moves the cursor back before the first move.
+         */
+        public void rewind() {
+            position = 0;
+        }
+
+        /**
+         * Returns the index of the next move, which is also the amount of moves read so far.
+         *
+         * @return the position of the cursor
+         */
+        public int getPosition() {
+            return position;
+        }
+    }
+}
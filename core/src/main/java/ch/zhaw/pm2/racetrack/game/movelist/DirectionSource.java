@@ -0,0 +1,38 @@
+package ch.zhaw.pm2.racetrack.game.movelist;
+
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.Closeable;
+import java.util.NoSuchElementException;
+
+/**
+ * Source of the accelerations a car follows move by move.
+ *
+ * <p>Sources reading from a file release it as soon as the last move is read, closing a source is only required
+ * if it is abandoned before. The {@link ch.zhaw.pm2.racetrack.game.strategy.MoveListStrategy} closes its source
+ * when it is closed at the end of the game.</p>
+ *
+ * @version 1.0.0
+ */
+public interface DirectionSource extends Closeable {
+
+    /**
+     * Checks whether there are more moves.
+     *
+     * @return true if {@link #next()} returns a move
+     */
+    boolean hasNext();
+
+    /**
+     * Returns the next move.
+     *
+     * @return the acceleration of the next move
+     * @throws NoSuchElementException if there are no more moves
+     * @throws java.io.UncheckedIOException if reading the move failed
+     */
+    Direction next();
+
+    @Override
+    default void close() {
+    }
+}
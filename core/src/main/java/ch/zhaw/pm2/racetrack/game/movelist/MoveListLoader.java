@@ -0,0 +1,81 @@
+package ch.zhaw.pm2.racetrack.game.movelist;
+
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Class to load a move list file and make it usable for the move list strategy.
+ *
+ * <p>Besides text files with one direction per line, move lists can be stored in the packed binary format of the
+ * {@link PackedDirectionSource}. Long move lists should be {@link #openMoveListFile opened} as a source instead of
+ * being loaded into memory.</p>
+ *
+ * @author weberph5
+ * @version 1.0.0
+ */
+public class MoveListLoader {
+
+    /**
+     * Loads the previously selected move list file.
+     *
+     * @param selectedFile the selected file
+     * @return a list of directions as instructions for the car with this strategy
+     * @throws IOException if reading file did not work correctly or file did not exist
+     */
+    public List<Direction> loadMoveListFile(File selectedFile) throws IOException {
+        if (selectedFile.exists()) {
+            final List<Direction> directionList = new ArrayList<>();
+            Scanner scanner = new Scanner(selectedFile);
+            while (scanner.hasNextLine()) {
+                Direction direction = DirectionCodec.fromName(scanner.nextLine());
+                if (direction != null) {
+                    directionList.add(direction);
+                }
+
+            }
+            scanner.close();
+            return directionList;
+
+        }
+        return emptyList();
+    }
+
+    /**
+     * Opens a move list file in the text or the packed format for reading it move by move.
+     *
+     * @param moveListFile the file to open
+     * @return a source reading the moves lazily
+     * @throws IOException if the file could not be opened
+     */
+    public DirectionSource openMoveListFile(File moveListFile) throws IOException {
+        if (PackedDirectionSource.isPackedFile(moveListFile)) {
+            return new PackedDirectionSource(moveListFile);
+        }
+        return new TextDirectionSource(moveListFile);
+    }
+
+    /**
+     * Writes all remaining moves of the given source into a file in the packed format.
+     *
+     * @param source     the moves to write, consumed by this method
+     * @param packedFile the file to write, an existing file is overwritten
+     * @throws IOException if the file could not be written
+     */
+    public void writePackedMoveList(DirectionSource source, File packedFile) throws IOException {
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(packedFile)))) {
+            outputStream.writeInt(PackedDirectionSource.MAGIC);
+            while (source.hasNext()) {
+                final int firstMove = source.next().ordinal();
+                final int secondMove = source.hasNext() ? source.next().ordinal() : PackedDirectionSource.PADDING;
+                outputStream.write(firstMove << PackedDirectionSource.NIBBLE_BITS | secondMove);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ch.zhaw.pm2.racetrack.game.movelist;
+
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a move list in the packed binary format from a memory-mapped file.
+ *
+ * <p>The file is mapped read only and the moves are read straight from the mapping, so the operating system pages
+ * them in as needed and the memory used does not depend on the length of the list. Move lists with millions of
+ * moves can be replayed this way.</p>
+ *
+ * <p>Binary format, big-endian:</p>
+ * <ul>
+ *   <li>magic number {@code RTM1} (4 bytes)</li>
+ *   <li>moves, two per byte with the first move in the high nibble, an odd last move is padded with 0xF</li>
+ * </ul>
+ *
+ * @version 1.0.0
+ */
+public class PackedDirectionSource implements DirectionSource {
+    static final int MAGIC = 0x52544D31;
+    static final int HEADER_LENGTH = Integer.BYTES;
+    static final int PADDING = 0xF;
+    static final int NIBBLE_BITS = 4;
+    static final int NIBBLE_MASK = 0xF;
+
+    private final ByteBuffer moves;
+    private final long moveCount;
+    private long nextMove;
+
+    /**
+     * Maps a packed move list file.
+     *
+     * @param packedFile the file to read
+     * @throws IOException if the file could not be mapped or is no packed move list
+     */
+    public PackedDirectionSource(File packedFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(packedFile.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_LENGTH || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a packed move list: " + packedFile);
+            }
+            moves = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        if (moves.getInt(0) != MAGIC) {
+            throw new IOException("Not a packed move list: " + packedFile);
+        }
+        final long packedMoves = 2L * (moves.limit() - HEADER_LENGTH);
+        moveCount = packedMoves > 0 && (moves.get(moves.limit() - 1) & NIBBLE_MASK) == PADDING ? packedMoves - 1 : packedMoves;
+    }
+
+    /**
+     * Checks whether the given file starts like a packed move list.
+     *
+     * @param file the file to check
+     * @return true if the file starts with the magic number of the format
+     * @throws IOException if the file could not be read
+     */
+    public static boolean isPackedFile(File file) throws IOException {
+        try (DataInputStream inputStream = new DataInputStream(new FileInputStream(file))) {
+            return inputStream.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextMove < moveCount;
+    }
+
+    @Override
+    public Direction next() {
+        if (nextMove >= moveCount) {
+            throw new NoSuchElementException();
+        }
+        final int packedMoves = moves.get(HEADER_LENGTH + (int) (nextMove / 2));
+        final int shift = nextMove % 2 == 0 ? NIBBLE_BITS : 0;
+        final Direction direction = DirectionCodec.fromOrdinal(packedMoves >>> shift & NIBBLE_MASK);
+        if (direction == null) {
+            throw new UncheckedIOException(new IOException("Invalid move " + nextMove + " in packed move list"));
+        }
+        nextMove++;
+        return direction;
+    }
+
+    /**
+     * Returns the amount of moves in the file.
+     *
+     * @return the total amount of moves
+     */
+    public long getMoveCount() {
+        return moveCount;
+    }
+}
@@ -0,0 +1,79 @@
+package ch.zhaw.pm2.racetrack.game.movelist;
+
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.NoSuchElementException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads a move list file with one direction name per line lazily, only the next move is kept in memory.
+ * Lines not naming a direction are skipped, like the {@link MoveListLoader} does.
+ *
+ * @version 1.0.0
+ */
+public class TextDirectionSource implements DirectionSource {
+    private final BufferedReader reader;
+    private Direction nextDirection;
+
+    /**
+     * Opens a move list file.
+     *
+     * @param moveListFile the file to read
+     * @throws IOException if the file could not be opened or read
+     */
+    public TextDirectionSource(File moveListFile) throws IOException {
+        reader = Files.newBufferedReader(moveListFile.toPath(), UTF_8);
+        try {
+            readNextDirection();
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextDirection != null;
+    }
+
+    @Override
+    public Direction next() {
+        if (nextDirection == null) {
+            throw new NoSuchElementException();
+        }
+        final Direction direction = nextDirection;
+        try {
+            readNextDirection();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return direction;
+    }
+
+    private void readNextDirection() throws IOException {
+        nextDirection = null;
+        String line;
+        while (nextDirection == null && (line = reader.readLine()) != null) {
+            nextDirection = DirectionCodec.fromName(line);
+        }
+        if (nextDirection == null) {
+            reader.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
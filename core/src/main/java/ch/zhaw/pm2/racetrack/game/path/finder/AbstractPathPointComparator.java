@@ -0,0 +1,211 @@
+package ch.zhaw.pm2.racetrack.game.path.finder;
+
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.util.Comparator;
+
+/**
+ * Abstract base for comparators to compare path points depending on use case
+ *
+ * <p>The comparators read the moves map on every comparison, so they can be created once and reused for every turn
+ * by updating the moves map.</p>
+ *
+ * @author abuechi, fupat002
+ * @version 1.0.0
+ */
+public abstract class AbstractPathPointComparator implements Comparator<Direction> {
+    /**
+     * Weight of the primary criterion of a score. The secondary criteria are scalar products of a distance on the
+     * track and a velocity and stay far below it, so they only decide between moves with the same primary criterion.
+     */
+    protected static final long PRIMARY_CRITERION_WEIGHT = 1L << 32;
+
+    private final MovesMap potentialMoves;
+
+    /**
+     * Creates an abstract path point comparator
+     *
+     * @param movesMap the possible moves to compare with for the best option
+     */
+    protected AbstractPathPointComparator(MovesMap movesMap) {
+        this.potentialMoves = movesMap;
+    }
+
+    /**
+     * Calculates the score of a move following the same rules as {@link #compare}, a lower score is better.
+     * Moves the comparator considers equal or keeps in no particular order get the same score.
+     *
+     * @param direction the acceleration of the move
+     * @return the score of the move
+     */
+    public abstract long getScore(Direction direction);
+
+    /**
+     * Retrieves the MovesMap with potential moves
+     *
+     * @return potential moves
+     */
+    protected MovesMap getPotentialMoves() {
+        return potentialMoves;
+    }
+
+    /**
+     * Retrieves how far the velocity after a move points towards the next destination
+     *
+     * @param direction the acceleration of the move
+     * @return the scalar product of the distance to the next destination and the velocity after the move
+     */
+    protected int getProgress(Direction direction) {
+        return potentialMoves.getProgressTowardsGoal(direction);
+    }
+
+    /**
+     * Retrieves the squared length of the velocity after a move
+     *
+     * @param direction the acceleration of the move
+     * @return the squared speed after the move
+     */
+    protected int getSquaredSpeed(Direction direction) {
+        final int velocityX = potentialMoves.getVelocityX(direction);
+        final int velocityY = potentialMoves.getVelocityY(direction);
+        return velocityX * velocityX + velocityY * velocityY;
+    }
+
+    /**
+     * Retrieves the sum of the absolute velocity components after a move
+     *
+     * @param direction the acceleration of the move
+     * @return the manhattan length of the velocity after the move
+     */
+    protected int getManhattanSpeed(Direction direction) {
+        return Math.abs(potentialMoves.getVelocityX(direction)) + Math.abs(potentialMoves.getVelocityY(direction));
+    }
+
+    /**
+     * Comparator to use if distance is far or car has to decelerate fastly
+     *
+     * @author fupat002, abuechi
+     */
+    public static class LongDistanceComparator extends AbstractPathPointComparator {
+
+        /**
+         * Creates a path point comparator for longer distances
+         *
+         * @param movesMap the possible moves to compare with for the best option
+         */
+        public LongDistanceComparator(MovesMap movesMap) {
+            super(movesMap);
+        }
+
+        @Override
+        public long getScore(Direction direction) {
+            if (getSquaredSpeed(direction) == 0) {
+                return Long.MAX_VALUE;
+            }
+            return -getProgress(direction) * PRIMARY_CRITERION_WEIGHT - getSquaredSpeed(direction);
+        }
+
+        @Override
+        public int compare(Direction o1, Direction o2) {
+            final boolean isStanding1 = getSquaredSpeed(o1) == 0;
+            final boolean isStanding2 = getSquaredSpeed(o2) == 0;
+
+            // (0, 0) has the lowest priority therefore prioritize others.
+            if (isStanding1) {
+                return isStanding2 ? 0 : 1;
+            } else if (isStanding2) {
+                return -1;
+            } else {
+                int dotProduct = getProgress(o2) - getProgress(o1);
+
+                if (dotProduct == 0) {
+                    return getSquaredSpeed(o2) - getSquaredSpeed(o1);
+                } else if (dotProduct < 0) {
+                    return -1;
+                } else {
+                    return 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Comparator to use if car has to decelerate fastly if it would crash otherwise
+     *
+     * @author fupat002, abuechi
+     */
+    public static class DecelerateComparator extends AbstractPathPointComparator {
+
+        /**
+         * Creates a path point comparator for deceleration distances
+         *
+         * @param movesMap the possible moves to compare with for the best option
+         */
+        public DecelerateComparator(MovesMap movesMap) {
+            super(movesMap);
+        }
+
+        @Override
+        public long getScore(Direction direction) {
+            return getManhattanSpeed(direction) * PRIMARY_CRITERION_WEIGHT - getProgress(direction);
+        }
+
+        @Override
+        public int compare(Direction o1, Direction o2) {
+            int comparison = getManhattanSpeed(o1) - getManhattanSpeed(o2);
+            if (comparison != 0) {
+                return comparison;
+            } else {
+                int secondComparison = getProgress(o2) - getProgress(o1);
+                if (secondComparison < 0) {
+                    return -1;
+                } else {
+                    return 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Comparator to use if car needs to drive with the lowest possible velocity
+     *
+     * @author fupat002, abuechi
+     */
+    public static class LowVelocityComparator extends AbstractPathPointComparator {
+
+        /**
+         * Creates a path point comparator for moving minimal velocity
+         *
+         * @param movesMap the possible moves to compare with for the best option
+         */
+        public LowVelocityComparator(MovesMap movesMap) {
+            super(movesMap);
+        }
+
+        @Override
+        public long getScore(Direction direction) {
+            return (isSlow(direction) ? 0 : PRIMARY_CRITERION_WEIGHT) - getProgress(direction);
+        }
+
+        @Override
+        public int compare(Direction o1, Direction o2) {
+            boolean isSlow1 = isSlow(o1);
+            boolean isSlow2 = isSlow(o2);
+
+            if (isSlow1 != isSlow2) {
+                return isSlow1 ? -1 : 1;
+            }
+
+            int comparison = getProgress(o2) - getProgress(o1);
+            if (comparison < 0) {
+                return -1;
+            } else {
+                return 1;
+            }
+        }
+
+        private boolean isSlow(Direction direction) {
+            return getPotentialMoves().getVelocityY(direction) <= 1 && getPotentialMoves().getVelocityX(direction) <= 1;
+        }
+    }
+}
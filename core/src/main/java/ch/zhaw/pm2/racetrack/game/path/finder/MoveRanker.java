@@ -0,0 +1,59 @@
+package ch.zhaw.pm2.racetrack.game.path.finder;
+
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.values;
+
+/**
+ * Ranks the nine possible accelerations by the {@link AbstractPathPointComparator#getScore scores} of a comparator.
+ *
+ * <p>The scores and the ranking are kept in fixed-size arrays which are reused for every turn and sorted by
+ * insertion, so ranking the moves does not allocate anything. Moves with the same score keep the order of the
+ * directions.</p>
+ *
+ * @version 1.0.0
+ */
+public class MoveRanker {
+    private static final Direction[] DIRECTIONS = values();
+
+    private final long[] scores = new long[DIRECTIONS.length];
+    private final int[] ranking = new int[DIRECTIONS.length];
+
+    /**
+     * Ranks all moves by the scores of the given comparator.
+     *
+     * @param comparator the comparator defining the rules for the current turn
+     */
+    public void rank(AbstractPathPointComparator comparator) {
+        for (int move = 0; move < DIRECTIONS.length; move++) {
+            final long score = comparator.getScore(DIRECTIONS[move]);
+            int rank = move;
+            while (rank > 0 && scores[rank - 1] > score) {
+                scores[rank] = scores[rank - 1];
+                ranking[rank] = ranking[rank - 1];
+                rank--;
+            }
+            scores[rank] = score;
+            ranking[rank] = move;
+        }
+    }
+
+    /**
+     * Returns the move at the given rank of the last ranking.
+     *
+     * @param rank the rank, 0 being the best move
+     * @return the acceleration of the move
+     */
+    public Direction getMove(int rank) {
+        return DIRECTIONS[ranking[rank]];
+    }
+
+    /**
+     * Returns the amount of ranked moves.
+     *
+     * @return the amount of possible accelerations
+     */
+    public int getMoveCount() {
+        return DIRECTIONS.length;
+    }
+}
@@ -0,0 +1,115 @@
+package ch.zhaw.pm2.racetrack.game.path.finder;
+
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.values;
+
+/**
+ * Utility class for storing move data
+ *
+ * <p>The velocity and position after each acceleration are kept in primitive tables indexed by
+ * {@link Direction#ordinal()}. A single instance is meant to be {@link #update updated} every turn, so choosing a
+ * move does not allocate anything.</p>
+ *
+ * @author fupat002
+ * @version 1.0.0
+ */
+public class MovesMap {
+    private static final Direction[] DIRECTIONS = values();
+    private static final int[] ACCELERATION_X = new int[DIRECTIONS.length];
+    private static final int[] ACCELERATION_Y = new int[DIRECTIONS.length];
+
+    static {
+        for (Direction direction : DIRECTIONS) {
+            ACCELERATION_X[direction.ordinal()] = direction.getVector().getX();
+            ACCELERATION_Y[direction.ordinal()] = direction.getVector().getY();
+        }
+    }
+
+    private final int[] velocityX = new int[DIRECTIONS.length];
+    private final int[] velocityY = new int[DIRECTIONS.length];
+    private final PositionVector[] positions = new PositionVector[DIRECTIONS.length];
+    private PositionVector startPosition;
+    private PositionVector positionGoal;
+    private int distanceToGoalX;
+    private int distanceToGoalY;
+
+    /**
+     * Creates an empty moves map, to be filled by {@link #update}
+     */
+    public MovesMap() {
+        for (int move = 0; move < positions.length; move++) {
+            positions[move] = new PositionVector();
+        }
+    }
+
+    /**
+     * Utility class holding all possible moves as well as current velocity and goal
+     */
+    public MovesMap(final PositionVector start, final PositionVector goal, final PositionVector baseVelocity) {
+        this();
+        update(start, goal, baseVelocity);
+    }
+
+    /**
+     * Recalculates all possible moves for a new turn
+     *
+     * @param start        the current position of the car
+     * @param goal         the position the car is heading to
+     * @param baseVelocity the current velocity of the car
+     */
+    public void update(final PositionVector start, final PositionVector goal, final PositionVector baseVelocity) {
+        startPosition = start;
+        positionGoal = goal;
+        distanceToGoalX = goal.getX() - start.getX();
+        distanceToGoalY = goal.getY() - start.getY();
+        for (int move = 0; move < DIRECTIONS.length; move++) {
+            velocityX[move] = baseVelocity.getX() + ACCELERATION_X[move];
+            velocityY[move] = baseVelocity.getY() + ACCELERATION_Y[move];
+            positions[move].setX(start.getX() + velocityX[move]);
+            positions[move].setY(start.getY() + velocityY[move]);
+        }
+    }
+
+    public PositionVector getStartPoint() {
+        return startPosition;
+    }
+
+    public PositionVector getNextDestination() {
+        return positionGoal;
+    }
+
+    /**
+     * Returns the position after the given acceleration. The returned vector is reused by the next update.
+     *
+     * @param direction the acceleration
+     * @return the position of the car after the move
+     */
+    public PositionVector getPosition(final Direction direction) {
+        return positions[direction.ordinal()];
+    }
+
+    public PositionVector getVelocity(final Direction direction) {
+        return new PositionVector(getVelocityX(direction), getVelocityY(direction));
+    }
+
+    public int getVelocityX(final Direction direction) {
+        return velocityX[direction.ordinal()];
+    }
+
+    public int getVelocityY(final Direction direction) {
+        return velocityY[direction.ordinal()];
+    }
+
+    /**
+     * Calculates how far the velocity after the given acceleration points towards the goal,
+     * the scalar product of the velocity and the distance to the goal.
+     *
+     * @param direction the acceleration
+     * @return the progress towards the goal
+     */
+    public int getProgressTowardsGoal(final Direction direction) {
+        return distanceToGoalX * getVelocityX(direction) + distanceToGoalY * getVelocityY(direction);
+    }
+}
@@ -31,6 +31,7 @@ public class PathFinder {
     private final Deque<PositionVector> calculatedPath;
     private final Track track;
     private final PathCalculator pathCalculator;
+    private final PathFinderStatistics statistics = new PathFinderStatistics();
 
     /**
      * Creates a Pathfinder object based on track and current car index
@@ -54,11 +55,25 @@ public class PathFinder {
         return calculatedPath.pollFirst();
     }
 
+    /**
+     * Returns the statistics of the search performed when this path finder was created.
+     *
+     * @return the search statistics
+     */
+    public PathFinderStatistics getStatistics() {
+        return statistics;
+    }
+
     private void findPathToFinishLine(PositionVector currentCarPosition) {
+        final long searchStart = System.nanoTime();
         final PathPoint calculatedPathEnd = calculatePath(currentCarPosition);
+        final long smoothingStart = System.nanoTime();
+        statistics.setSearchNanos(smoothingStart - searchStart);
+        statistics.setPathFound(calculatedPathEnd != null);
         if (calculatedPathEnd != null) {
             optimizeCalculatedPath(calculatedPathEnd);
             createPathStack(calculatedPathEnd);
+            statistics.setSmoothingNanos(System.nanoTime() - smoothingStart);
         }
     }
 
@@ -74,6 +89,7 @@ public class PathFinder {
         PathPoint previousPathEndPoint = pathEndPoint.getPrev();
         if (previousPathEndPoint != null && previousPathEndPoint.getPrev() != null) {
             boolean hasLineOfSightToNextGoal = true;
+            statistics.countLineOfSightCheck();
             final List<PositionVector> calculatedPathToPoint = pathCalculator.calculatePath(pathEndPoint.getPosition(), previousPathEndPoint.getPrev().getPosition());
             for (PositionVector point : calculatedPathToPoint) {
                 if (track.getSpaceType(point).equals(WALL)) {
@@ -94,18 +110,22 @@ public class PathFinder {
         PriorityQueue<PathPoint> borderPoints = new PriorityQueue<>(comparing(PathPoint::getTotalCost));
         borderPoints.add(new PathPoint(startingPoint, null, NO_COST));
         final Set<PathPoint> visitedPoints = new TreeSet<>(POSITION_COMPARATOR);
-        while (!borderPoints.isEmpty()) {
+        PathPoint pathEndPoint = null;
+        while (!borderPoints.isEmpty() && pathEndPoint == null) {
             PathPoint currentFinderPoint = borderPoints.remove();
             if (currentFinderPoint.getTotalCost() < COST_IMPASSABLE) {
                 if (!isSpaceTypePartOfFinishLine(track.getSpaceType(currentFinderPoint.getPosition()))) {
+                    statistics.countExpandedNode();
                     calculateNextPointToMoveTo(borderPoints, visitedPoints, currentFinderPoint);
+                    statistics.updateFrontierSize(borderPoints.size());
                     visitedPoints.add(currentFinderPoint);
                 } else {
-                    return currentFinderPoint;
+                    pathEndPoint = currentFinderPoint;
                 }
             }
         }
-        return null;
+        statistics.setVisitedNodes(visitedPoints.size());
+        return pathEndPoint;
     }
 
     private void calculateNextPointToMoveTo(final PriorityQueue<PathPoint> borderPoints, final Set<PathPoint> visitedPoints, final PathPoint currentFinderPoint) {
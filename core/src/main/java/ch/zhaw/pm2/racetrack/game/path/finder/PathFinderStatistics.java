@@ -0,0 +1,104 @@
+package ch.zhaw.pm2.racetrack.game.path.finder;
+
+/**
+ * Statistics of a single search of the {@link PathFinder}, allowing to tell whether a slow search is caused by
+ * the track, the cost model or the data structures.
+ *
+ * @version 1.0.0
+ */
+public class PathFinderStatistics {
+    private long expandedNodes;
+    private int peakFrontierSize;
+    private int visitedNodes;
+    private long lineOfSightChecks;
+    private long searchNanos;
+    private long smoothingNanos;
+    private boolean pathFound;
+
+    /**
+     * Package private, statistics are only collected by the {@link PathFinder}.
+     */
+    PathFinderStatistics() {
+    }
+
+    void countExpandedNode() {
+        expandedNodes++;
+    }
+
+    void updateFrontierSize(int frontierSize) {
+        peakFrontierSize = Math.max(peakFrontierSize, frontierSize);
+    }
+
+    void countLineOfSightCheck() {
+        lineOfSightChecks++;
+    }
+
+    void setVisitedNodes(int visitedNodes) {
+        this.visitedNodes = visitedNodes;
+    }
+
+    void setSearchNanos(long searchNanos) {
+        this.searchNanos = searchNanos;
+    }
+
+    void setSmoothingNanos(long smoothingNanos) {
+        this.smoothingNanos = smoothingNanos;
+    }
+
+    void setPathFound(boolean pathFound) {
+        this.pathFound = pathFound;
+    }
+
+    /**
+     * @return the amount of nodes taken from the frontier and expanded to their neighbours
+     */
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * @return the largest amount of nodes on the frontier at the same time
+     */
+    public int getPeakFrontierSize() {
+        return peakFrontierSize;
+    }
+
+    /**
+     * @return the amount of nodes in the visited set at the end of the search
+     */
+    public int getVisitedNodes() {
+        return visitedNodes;
+    }
+
+    /**
+     * @return the amount of line of sight checks performed while smoothing the found path
+     */
+    public long getLineOfSightChecks() {
+        return lineOfSightChecks;
+    }
+
+    /**
+     * @return the time spent searching until the first path to the finish line was found, in nanoseconds
+     */
+    public long getSearchNanos() {
+        return searchNanos;
+    }
+
+    /**
+     * @return the time spent smoothing the found path, in nanoseconds
+     */
+    public long getSmoothingNanos() {
+        return smoothingNanos;
+    }
+
+    public boolean isPathFound() {
+        return pathFound;
+    }
+
+    @Override
+    public String toString() {
+        return "PathFinderStatistics{expandedNodes=" + expandedNodes + ", peakFrontierSize=" + peakFrontierSize
+            + ", visitedNodes=" + visitedNodes + ", lineOfSightChecks=" + lineOfSightChecks
+            + ", searchNanos=" + searchNanos + ", smoothingNanos=" + smoothingNanos + ", pathFound=" + pathFound + '}';
+    }
+}
@@ -7,15 +7,9 @@ import ch.zhaw.pm2.racetrack.game.path.finder.AbstractPathPointComparator.LowVel
 import ch.zhaw.pm2.racetrack.game.track.Track;
 import ch.zhaw.pm2.racetrack.game.util.PositionVector;
 
-import java.util.Comparator;
-import java.util.PriorityQueue;
-import java.util.Queue;
-
 import static ch.zhaw.pm2.racetrack.game.util.PositionVector.*;
 import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.NONE;
-import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.values;
 import static java.lang.Integer.signum;
-import static java.util.Arrays.asList;
 
 /**
  * Class containing the logic for a path point follower
@@ -29,6 +23,11 @@ public class PathPointFollower {
     private final int currentCarIndex;
     private PositionVector nextDestination;
     private final Game game;
+    private final MovesMap movesMap = new MovesMap();
+    private final AbstractPathPointComparator longDistanceComparator = new LongDistanceComparator(movesMap);
+    private final AbstractPathPointComparator decelerateComparator = new DecelerateComparator(movesMap);
+    private final AbstractPathPointComparator lowVelocityComparator = new LowVelocityComparator(movesMap);
+    private final MoveRanker moveRanker = new MoveRanker();
 
     /**
      * Creates a path point follower object
@@ -58,27 +57,25 @@ public class PathPointFollower {
             updateNextDestination();
         }
 
-        final MovesMap movesMap = new MovesMap(currentPosition, nextDestination, currentVelocity);
-        final Comparator<Direction> comparator = getBestComparatorForCurrentTurn(currentPosition, currentVelocity, movesMap);
-        Queue<Direction> nextMoveCandidates = new PriorityQueue<>(values().length, comparator);
-        nextMoveCandidates.addAll(asList(values()));
+        movesMap.update(currentPosition, nextDestination, currentVelocity);
+        moveRanker.rank(getBestComparatorForCurrentTurn(currentPosition, currentVelocity));
 
-        do {
-            Direction candidate = nextMoveCandidates.remove();
+        for (int rank = 0; rank < moveRanker.getMoveCount(); rank++) {
+            final Direction candidate = moveRanker.getMove(rank);
             if (!game.willCarCrash(currentCarIndex, movesMap.getPosition(candidate))) {
                 return candidate;
             }
-        } while (!nextMoveCandidates.isEmpty());
+        }
         return NONE;
     }
 
-    private Comparator<Direction> getBestComparatorForCurrentTurn(PositionVector currentPosition, PositionVector currentVelocity, MovesMap potentialMoves) {
-        if (isWrongDirection(currentPosition, currentVelocity, nextDestination) || isPastStoppingDistance(add(currentPosition, currentVelocity), currentVelocity, nextDestination)) {
-            return new LongDistanceComparator(potentialMoves);
+    private AbstractPathPointComparator getBestComparatorForCurrentTurn(PositionVector currentPosition, PositionVector currentVelocity) {
+        if (isWrongDirection(currentPosition, currentVelocity, nextDestination) || isPastStoppingDistance(currentPosition, currentVelocity, nextDestination)) {
+            return longDistanceComparator;
         } else if (currentVelocity.getY() > 1 || currentVelocity.getX() > 1) {
-            return new DecelerateComparator(potentialMoves);
+            return decelerateComparator;
         } else {
-            return new LowVelocityComparator(potentialMoves);
+            return lowVelocityComparator;
         }
     }
 
@@ -86,41 +83,28 @@ public class PathPointFollower {
         nextDestination = pathFinder.getNextPathFinderPoint();
     }
 
-    private PositionVector getStoppingDistance(PositionVector startVelocity) {
-        PositionVector result = new PositionVector();
-        for (Axis axis : Axis.values()) {
-            int speed = Math.abs(startVelocity.getValueOnAxis(axis));
-            int distanceNeeded = speed * (speed + 1) / 2;
-            result.setValueOnAxis(axis, distanceNeeded);
-        }
-        return result;
+    private int getStoppingDistance(int speed) {
+        return Math.abs(speed) * (Math.abs(speed) + 1) / 2;
     }
 
     private boolean isWrongDirection(final PositionVector position, final PositionVector velocity, final PositionVector goal) {
-        for (Axis axis : Axis.values()) {
-            int distanceToGoal = goal.getValueOnAxis(axis) - position.getValueOnAxis(axis);
-            int velocityComponent = velocity.getValueOnAxis(axis);
-            if (distanceToGoal != 0 && velocityComponent != 0 && !samePrefix(distanceToGoal, velocityComponent)) {
-                return true;
-            }
-        }
-        return false;
+        return isWrongDirection(goal.getX() - position.getX(), velocity.getX())
+            || isWrongDirection(goal.getY() - position.getY(), velocity.getY());
+    }
+
+    private boolean isWrongDirection(int distanceToGoal, int velocityComponent) {
+        return distanceToGoal != 0 && velocityComponent != 0 && !samePrefix(distanceToGoal, velocityComponent);
     }
 
     private boolean samePrefix(int firstNumber, int secondNumber) {
         return signum(firstNumber) == signum(secondNumber);
     }
 
+    /**
+     * Checks whether the goal is further away than the car needs to stop after moving with its current velocity.
+     */
     private boolean isPastStoppingDistance(final PositionVector position, final PositionVector velocity, final PositionVector goal) {
-        PositionVector stoppingVector = getStoppingDistance(velocity);
-        for (Axis axis : Axis.values()) {
-            int distanceToGoal = Math.abs(goal.getValueOnAxis(axis) - position.getValueOnAxis(axis));
-            int stoppingDistance = stoppingVector.getValueOnAxis(axis);
-            if (distanceToGoal > stoppingDistance) {
-                return true;
-            }
-        }
-        return false;
+        return Math.abs(goal.getX() - position.getX() - velocity.getX()) > getStoppingDistance(velocity.getX())
+            || Math.abs(goal.getY() - position.getY() - velocity.getY()) > getStoppingDistance(velocity.getY());
     }
 }
-
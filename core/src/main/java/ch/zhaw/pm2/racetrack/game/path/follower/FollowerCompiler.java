@@ -0,0 +1,223 @@
+package ch.zhaw.pm2.racetrack.game.path.follower;
+
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PathCalculator;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.WALL;
+
+/**
+ * Compiles the waypoints of a follower file into the accelerations driving a car through them.
+ *
+ * <p>Each line of a follower file contains a waypoint like {@code (X:28, Y:22)}. The lines are tokenized character
+ * by character and every waypoint is driven to as soon as it is read, keeping only the position and velocity of the
+ * car. The accelerations are handed to a consumer, so the compiler runs in a single forward pass in linear time.
+ * The memory used does not grow with the length of the file, only with the search for a single waypoint.</p>
+ *
+ * <p>Each waypoint is reached with a maneuver of as few turns as the {@link ManeuverTable} allows. The maneuver is
+ * searched move by move, slower moves first, only trying accelerations after which the waypoint stays reachable in
+ * the remaining turns and whose path does not cross a wall. After each move the car must still be able to brake to a
+ * standstill without hitting a wall, so it never arrives at a waypoint too fast to turn towards the next one. If there
+ * is no maneuver, the next larger amount of turns is tried. The search for each amount of turns tries at most
+ * {@value #MAX_SEARCHED_MOVES_PER_MANEUVER} moves. States which lead nowhere are remembered until the waypoint is
+ * reached, so a single waypoint keeps up to {@value #MAX_SEARCHED_MOVES_PER_MANEUVER} states per tried amount of
+ * turns. They are forgotten when the search for the next waypoint starts.</p>
+ *
+ * @version 1.0.0
+ */
+public class FollowerCompiler {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int COORDINATES_PER_WAYPOINT = 2;
+    private static final int MAX_SEARCHED_MOVES_PER_MANEUVER = 10_000;
+
+    private final Track track;
+    private final Consumer<Direction> directionConsumer;
+    private final PathCalculator pathCalculator = new PathCalculator();
+    private final Direction[] maneuver = new Direction[ManeuverTable.MAX_TURNS];
+    private final int[][] candidateOrdinals = new int[ManeuverTable.MAX_TURNS][DirectionCodec.DIRECTION_COUNT];
+    private final int[][] candidateSpeeds = new int[ManeuverTable.MAX_TURNS][DirectionCodec.DIRECTION_COUNT];
+    private final Set<Long> deadEnds = new HashSet<>();
+    private int searchedMoves;
+    private int x;
+    private int y;
+    private int velocityX;
+    private int velocityY;
+
+    /**
+     * Creates a compiler for a car standing at the given position.
+     *
+     * @param track             the track whose walls the car must not hit
+     * @param start             the position of the car before the first move
+     * @param directionConsumer the receiver of the compiled accelerations
+     */
+    public FollowerCompiler(Track track, PositionVector start, Consumer<Direction> directionConsumer) {
+        this.track = Objects.requireNonNull(track);
+        this.directionConsumer = Objects.requireNonNull(directionConsumer);
+        x = start.getX();
+        y = start.getY();
+    }
+
+    /**
+     * Compiles all waypoints read from the reader. Blank lines are skipped.
+     *
+     * @param reader the follower file, neither buffered nor closed by this method
+     * @throws IOException if reading failed, a line is no waypoint or a waypoint could not be reached
+     */
+    public void compile(Reader reader) throws IOException {
+        final char[] buffer = new char[BUFFER_SIZE];
+        final int[] coordinates = new int[COORDINATES_PER_WAYPOINT];
+        int coordinateCount = 0;
+        boolean inNumber = false;
+        boolean blankLine = true;
+        int lineNumber = 1;
+        int readCharacters;
+        while ((readCharacters = reader.read(buffer)) != -1) {
+            for (int index = 0; index < readCharacters; index++) {
+                final char character = buffer[index];
+                if (character == '\n') {
+                    completeLine(coordinates, coordinateCount, blankLine, lineNumber++);
+                    coordinateCount = 0;
+                    inNumber = false;
+                    blankLine = true;
+                } else if (character >= '0' && character <= '9') {
+                    if (!inNumber && coordinateCount < COORDINATES_PER_WAYPOINT) {
+                        coordinates[coordinateCount++] = 0;
+                        inNumber = true;
+                    }
+                    if (inNumber) {
+                        coordinates[coordinateCount - 1] = coordinates[coordinateCount - 1] * 10 + character - '0';
+                    }
+                    blankLine = false;
+                } else {
+                    inNumber = false;
+                    blankLine &= Character.isWhitespace(character);
+                }
+            }
+        }
+        completeLine(coordinates, coordinateCount, blankLine, lineNumber);
+    }
+
+    private void completeLine(int[] coordinates, int coordinateCount, boolean blankLine, int lineNumber) throws IOException {
+        if (coordinateCount == COORDINATES_PER_WAYPOINT) {
+            driveTo(coordinates[0], coordinates[1]);
+        } else if (!blankLine) {
+            throw new IOException("Line " + lineNumber + " of the follower file is no waypoint");
+        }
+    }
+
+    /**
+     * Emits the accelerations driving the car from its current state to the given waypoint without hitting a wall.
+     *
+     * @param targetX the column of the waypoint
+     * @param targetY the row of the waypoint
+     * @throws IOException if the waypoint could not be reached without crashing
+     */
+    public void driveTo(int targetX, int targetY) throws IOException {
+        long turnCandidates = ManeuverTable.getReachableTurns(velocityX, targetX - x)
+            & ManeuverTable.getReachableTurns(velocityY, targetY - y);
+        deadEnds.clear();
+        while (turnCandidates != 0) {
+            final int turns = Long.numberOfTrailingZeros(turnCandidates);
+            searchedMoves = 0;
+            if (findManeuver(x, y, velocityX, velocityY, targetX, targetY, turns, 0)) {
+                for (int turn = 0; turn < turns; turn++) {
+                    velocityX += maneuver[turn].getVector().getX();
+                    velocityY += maneuver[turn].getVector().getY();
+                    directionConsumer.accept(maneuver[turn]);
+                }
+                x = targetX;
+                y = targetY;
+                return;
+            }
+            turnCandidates &= turnCandidates - 1;
+        }
+        throw new IOException("Waypoint (X:" + targetX + ", Y:" + targetY + ") cannot be reached without crashing");
+    }
+
+    private boolean findManeuver(int startX, int startY, int startVelocityX, int startVelocityY, int targetX, int targetY, int turnsLeft, int turn) {
+        if (turnsLeft == 0) {
+            return true;
+        }
+        final long state = encodeState(startX, startY, startVelocityX, startVelocityY, turnsLeft);
+        if (deadEnds.contains(state)) {
+            return false;
+        }
+        final int[] ordinals = candidateOrdinals[turn];
+        final int[] speeds = candidateSpeeds[turn];
+        int candidateCount = 0;
+        for (int ordinal = 0; ordinal < DirectionCodec.DIRECTION_COUNT; ordinal++) {
+            final Direction direction = DirectionCodec.fromOrdinal(ordinal);
+            final int nextVelocityX = startVelocityX + direction.getVector().getX();
+            final int nextVelocityY = startVelocityY + direction.getVector().getY();
+            if (ManeuverTable.isReachable(nextVelocityX, targetX - startX - nextVelocityX, turnsLeft - 1)
+                && ManeuverTable.isReachable(nextVelocityY, targetY - startY - nextVelocityY, turnsLeft - 1)) {
+                final int speed = nextVelocityX * nextVelocityX + nextVelocityY * nextVelocityY;
+                int rank = candidateCount++;
+                while (rank > 0 && speeds[rank - 1] > speed) {
+                    speeds[rank] = speeds[rank - 1];
+                    ordinals[rank] = ordinals[rank - 1];
+                    rank--;
+                }
+                speeds[rank] = speed;
+                ordinals[rank] = ordinal;
+            }
+        }
+        for (int candidate = 0; candidate < candidateCount && searchedMoves < MAX_SEARCHED_MOVES_PER_MANEUVER; candidate++) {
+            searchedMoves++;
+            final Direction direction = DirectionCodec.fromOrdinal(ordinals[candidate]);
+            final int nextVelocityX = startVelocityX + direction.getVector().getX();
+            final int nextVelocityY = startVelocityY + direction.getVector().getY();
+            final int nextX = startX + nextVelocityX;
+            final int nextY = startY + nextVelocityY;
+            if (isPathFree(startX, startY, nextX, nextY) && canStop(nextX, nextY, nextVelocityX, nextVelocityY)) {
+                maneuver[turn] = direction;
+                if (findManeuver(nextX, nextY, nextVelocityX, nextVelocityY, targetX, targetY, turnsLeft - 1, turn + 1)) {
+                    return true;
+                }
+            }
+        }
+        if (searchedMoves < MAX_SEARCHED_MOVES_PER_MANEUVER) {
+            deadEnds.add(state);
+        }
+        return false;
+    }
+
+    private static long encodeState(int x, int y, int velocityX, int velocityY, int turnsLeft) {
+        return ((((long) x << 16 | y & 0xFFFF) << 12 | velocityX & 0xFFF) << 12 | velocityY & 0xFFF) << 6 | turnsLeft;
+    }
+
+    private boolean canStop(int startX, int startY, int startVelocityX, int startVelocityY) {
+        int currentX = startX;
+        int currentY = startY;
+        int currentVelocityX = startVelocityX;
+        int currentVelocityY = startVelocityY;
+        while (currentVelocityX != 0 || currentVelocityY != 0) {
+            currentVelocityX -= Integer.signum(currentVelocityX);
+            currentVelocityY -= Integer.signum(currentVelocityY);
+            if (!isPathFree(currentX, currentY, currentX + currentVelocityX, currentY + currentVelocityY)) {
+                return false;
+            }
+            currentX += currentVelocityX;
+            currentY += currentVelocityY;
+        }
+        return true;
+    }
+
+    private boolean isPathFree(int startX, int startY, int endX, int endY) {
+        for (PositionVector position : pathCalculator.calculatePath(new PositionVector(startX, startY), new PositionVector(endX, endY))) {
+            if (track.getSpaceType(position) == WALL) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package ch.zhaw.pm2.racetrack.game.path.follower;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Class to load a follower file and make it usable for the follower strategy.
+ * The waypoints are converted into directions by a {@link FollowerCompiler}.
+ *
+ * @author weberph5
+ * @version 1.0.0
+ */
+public class FollowerLoader {
+
+    /**
+     * Loads the previously selected follower file and passes it into conversion.
+     *
+     * @param selectedFile the selected file
+     * @param track        the track the car drives on
+     * @param car          the car following the waypoints, in its position at the start of the race
+     * @return a list of directions as instructions for the car with this strategy
+     * @throws IOException if reading file did not work correctly or file did not exist at this spot exception cannot be handled (closing of streams are ensured) and therefore are thrown to the caller
+     */
+    public List<Direction> loadFollowerFile(File selectedFile, Track track, Car car) throws IOException {
+        final List<Direction> directionsList = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(new FileInputStream(selectedFile), UTF_8)) {
+            new FollowerCompiler(track, car.getPosition(), directionsList::add).compile(reader);
+        }
+        return directionsList;
+    }
+}
@@ -0,0 +1,71 @@
+package ch.zhaw.pm2.racetrack.game.path.follower;
+
+/**
+ * Tells in how many turns a car can cover a displacement on one axis, looked up in a table computed once.
+ *
+ * <p>Accelerating by -1, 0 or 1 in each of n turns moves a car with the velocity v by n * v plus any whole number
+ * between -n * (n + 1) / 2 and n * (n + 1) / 2, since the acceleration of turn i counts n - i + 1 times. For every
+ * velocity and displacement the table holds a bit mask with bit n set if the displacement can be covered in exactly
+ * n turns. The axes are independent, so a waypoint is reachable in n turns if bit n is set on both axes.</p>
+ *
+ * @version 1.0.0
+ */
+public final class ManeuverTable {
+    /**
+     * Most turns a maneuver can take, the highest bit of a mask.
+     */
+    public static final int MAX_TURNS = Long.SIZE - 1;
+
+    private static final int MAX_VELOCITY = 16;
+    private static final int MAX_DISPLACEMENT = 128;
+    private static final long[][] REACHABLE_TURNS = new long[2 * MAX_VELOCITY + 1][2 * MAX_DISPLACEMENT + 1];
+
+    static {
+        for (int velocity = -MAX_VELOCITY; velocity <= MAX_VELOCITY; velocity++) {
+            for (int displacement = -MAX_DISPLACEMENT; displacement <= MAX_DISPLACEMENT; displacement++) {
+                REACHABLE_TURNS[velocity + MAX_VELOCITY][displacement + MAX_DISPLACEMENT] =
+                    calculateReachableTurns(velocity, displacement);
+            }
+        }
+    }
+
+    private ManeuverTable() {
+    }
+
+    /**
+     * Returns the turn counts in which a displacement can be covered on one axis.
+     *
+     * @param velocity     the velocity on the axis before the first turn
+     * @param displacement the distance to cover on the axis
+     * @return a mask with bit n set if the displacement can be covered in exactly n turns
+     */
+    public static long getReachableTurns(int velocity, int displacement) {
+        if (Math.abs(velocity) > MAX_VELOCITY || Math.abs(displacement) > MAX_DISPLACEMENT) {
+            return calculateReachableTurns(velocity, displacement);
+        }
+        return REACHABLE_TURNS[velocity + MAX_VELOCITY][displacement + MAX_DISPLACEMENT];
+    }
+
+    /**
+     * Checks whether a displacement can be covered on one axis in exactly the given amount of turns.
+     *
+     * @param velocity     the velocity on the axis before the first turn
+     * @param displacement the distance to cover on the axis
+     * @param turns        the amount of turns, at most {@link #MAX_TURNS}
+     * @return true if the car lands on the displacement after the turns
+     */
+    public static boolean isReachable(int velocity, int displacement, int turns) {
+        return (getReachableTurns(velocity, displacement) & 1L << turns) != 0;
+    }
+
+    private static long calculateReachableTurns(int velocity, int displacement) {
+        long reachableTurns = 0;
+        for (int turns = 0; turns <= MAX_TURNS; turns++) {
+            final long maxAccelerationDistance = (long) turns * (turns + 1) / 2;
+            if (Math.abs(displacement - (long) turns * velocity) <= maxAccelerationDistance) {
+                reachableTurns |= 1L << turns;
+            }
+        }
+        return reachableTurns;
+    }
+}
@@ -0,0 +1,199 @@
+package ch.zhaw.pm2.racetrack.game.replay;
+
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact, append-only journal of a race, recorded by the {@link ch.zhaw.pm2.racetrack.game.Game}.
+ *
+ * <p>The journal stores the hash of the track at the start of the race, the seed used by the race and the
+ * acceleration of every turn. As the order of the turns is given by the game rules, the accelerations are all
+ * that is needed to re-simulate the race with the {@link RaceReplayer}. Each acceleration is packed into four
+ * bits, so two turns take a single byte.</p>
+ *
+ * <p>Binary format, big-endian:</p>
+ * <ul>
+ *   <li>magic number {@code RTJ1} (4 bytes)</li>
+ *   <li>SHA-256 hash of the track (32 bytes)</li>
+ *   <li>seed (8 bytes)</li>
+ *   <li>turns, two per byte with the first turn in the high nibble, an odd last turn is padded with 0xF</li>
+ * </ul>
+ *
+ * @version 1.0.0
+ */
+public class RaceJournal {
+    private static final int MAGIC = 0x52544A31;
+    private static final int TRACK_HASH_LENGTH = 32;
+    private static final int PADDING = 0xF;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0xF;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final byte[] trackHash;
+    private final long seed;
+    private byte[] turns = new byte[INITIAL_CAPACITY];
+    private int turnCount;
+
+    /**
+     * Creates an empty journal for a race on the given track. Has to be created before the first turn.
+     *
+     * @param track the track in its state at the start of the race
+     * @param seed  the seed used by the race, e.g. of a generated track or a randomized bot
+     */
+    public RaceJournal(Track track, long seed) {
+        this(hashTrack(track), seed);
+    }
+
+    private RaceJournal(byte[] trackHash, long seed) {
+        this.trackHash = trackHash;
+        this.seed = seed;
+    }
+
+    /**
+     * Calculates the hash identifying a track and the start positions of its cars.
+     *
+     * @param track the track in its state at the start of the race
+     * @return the SHA-256 hash of the track
+     */
+    public static byte[] hashTrack(Track track) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(track.toString().getBytes(UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * Appends the acceleration of a turn.
+     *
+     * @param acceleration the acceleration chosen for the turn
+     */
+    public void append(Direction acceleration) {
+        final int turnByte = turnCount / 2;
+        if (turnByte == turns.length) {
+            turns = Arrays.copyOf(turns, turns.length * 2);
+        }
+        if (turnCount % 2 == 0) {
+            turns[turnByte] = (byte) (acceleration.ordinal() << NIBBLE_BITS | PADDING);
+        } else {
+            turns[turnByte] = (byte) (turns[turnByte] & NIBBLE_MASK << NIBBLE_BITS | acceleration.ordinal());
+        }
+        turnCount++;
+    }
+
+    /**
+     * Returns the acceleration of a recorded turn.
+     *
+     * @param turn the zero-based index of the turn
+     * @return the acceleration of the turn
+     */
+    public Direction getDirection(int turn) {
+        Objects.checkIndex(turn, turnCount);
+        final int shift = turn % 2 == 0 ? NIBBLE_BITS : 0;
+        return DirectionCodec.fromOrdinal(turns[turn / 2] >>> shift & NIBBLE_MASK);
+    }
+
+    /**
+     * Writes the journal in its binary format. The stream is neither flushed nor closed.
+     *
+     * @param outputStream the stream to write to
+     * @throws IOException if writing failed
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        final DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.writeInt(MAGIC);
+        dataOutputStream.write(trackHash);
+        dataOutputStream.writeLong(seed);
+        dataOutputStream.write(turns, 0, (turnCount + 1) / 2);
+    }
+
+    /**
+     * Writes the journal into the given file.
+     *
+     * @param journalFile the file to write, an existing file is overwritten
+     * @throws IOException if the file could not be written
+     */
+    public void writeFile(File journalFile) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(journalFile))) {
+            writeTo(outputStream);
+        }
+    }
+
+    /**
+     * Reads a journal in its binary format until the end of the stream.
+     *
+     * @param inputStream the stream to read from
+     * @return the read journal
+     * @throws IOException if reading failed or the stream does not contain a journal
+     */
+    public static RaceJournal readFrom(InputStream inputStream) throws IOException {
+        final DataInputStream dataInputStream = new DataInputStream(inputStream);
+        if (dataInputStream.readInt() != MAGIC) {
+            throw new IOException("Not a race journal");
+        }
+        final byte[] trackHash = new byte[TRACK_HASH_LENGTH];
+        dataInputStream.readFully(trackHash);
+        final RaceJournal journal = new RaceJournal(trackHash, dataInputStream.readLong());
+        final byte[] packedTurns = dataInputStream.readAllBytes();
+        for (byte packedTurn : packedTurns) {
+            journal.appendRecordedTurn(packedTurn >>> NIBBLE_BITS & NIBBLE_MASK);
+            final int secondTurn = packedTurn & NIBBLE_MASK;
+            if (secondTurn != PADDING) {
+                journal.appendRecordedTurn(secondTurn);
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Reads a journal from the given file.
+     *
+     * @param journalFile the file to read
+     * @return the read journal
+     * @throws IOException if the file could not be read or does not contain a journal
+     */
+    public static RaceJournal readFile(File journalFile) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(journalFile))) {
+            return readFrom(inputStream);
+        }
+    }
+
+    private void appendRecordedTurn(int directionOrdinal) throws IOException {
+        final Direction direction = DirectionCodec.fromOrdinal(directionOrdinal);
+        if (direction == null) {
+            throw new IOException("Invalid direction in race journal: " + directionOrdinal);
+        }
+        append(direction);
+    }
+
+    /**
+     * Checks whether this journal was recorded on the given track.
+     *
+     * @param track the track in its state at the start of the race
+     * @return true if the hashes match
+     */
+    public boolean isRecordedOn(Track track) {
+        return MessageDigest.isEqual(trackHash, hashTrack(track));
+    }
+
+    public byte[] getTrackHash() {
+        return trackHash.clone();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+}
@@ -0,0 +1,112 @@
+package ch.zhaw.pm2.racetrack.game.replay;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.GameSnapshot;
+import ch.zhaw.pm2.racetrack.game.metrics.GameMetrics;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reconstructs the state of a recorded race at any turn by re-simulating it headlessly.
+ *
+ * <p>The whole race is simulated once when the replayer is created, keeping a {@link GameSnapshot} as checkpoint
+ * every {@link #getCheckpointInterval()} turns. Seeking a turn restores the closest earlier checkpoint on a fork
+ * of the simulated game and simulates at most the turns of one interval.</p>
+ *
+ * @version 1.0.0
+ */
+public class RaceReplayer {
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 64;
+
+    private final RaceJournal journal;
+    private final int checkpointInterval;
+    private final List<GameSnapshot> checkpoints = new ArrayList<>();
+    private final Game simulatedGame;
+    private int turnCount;
+
+    /**
+     * Creates a replayer keeping a checkpoint every {@link #DEFAULT_CHECKPOINT_INTERVAL} turns.
+     *
+     * @param trackRows the rows of the track the race was recorded on
+     * @param journal   the recorded race
+     */
+    public RaceReplayer(List<String> trackRows, RaceJournal journal) {
+        this(trackRows, journal, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a replayer.
+     *
+     * @param trackRows          the rows of the track the race was recorded on
+     * @param journal            the recorded race
+     * @param checkpointInterval the amount of turns between two checkpoints
+     * @throws IllegalArgumentException if the journal was not recorded on the track
+     */
+    public RaceReplayer(List<String> trackRows, RaceJournal journal, int checkpointInterval) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be at least 1");
+        }
+        this.journal = Objects.requireNonNull(journal);
+        this.checkpointInterval = checkpointInterval;
+        simulatedGame = new Game(new Track(trackRows), GameMetrics.DISABLED);
+        if (!journal.isRecordedOn(simulatedGame.getTrack())) {
+            throw new IllegalArgumentException("The race journal was not recorded on this track");
+        }
+        simulateRace(simulatedGame);
+    }
+
+    /**
+     * Reconstructs the game after the given amount of turns.
+     *
+     * @param turn the amount of turns played, between 0 and {@link #getTurnCount()}
+     * @return a new game in the state after the turn, its cars have no move strategies
+     */
+    public Game seek(int turn) {
+        Objects.checkIndex(turn, turnCount + 1);
+        final int checkpointIndex = turn / checkpointInterval;
+        final Game game = simulatedGame.fork();
+        game.restoreSnapshot(checkpoints.get(checkpointIndex));
+        for (int replayedTurn = checkpointIndex * checkpointInterval; replayedTurn < turn; replayedTurn++) {
+            playTurn(game, replayedTurn);
+        }
+        return game;
+    }
+
+    private void simulateRace(Game game) {
+        checkpoints.add(game.createSnapshot());
+        while (turnCount < journal.getTurnCount() && !game.hasWinner()) {
+            playTurn(game, turnCount);
+            turnCount++;
+            if (turnCount % checkpointInterval == 0) {
+                checkpoints.add(game.createSnapshot());
+            }
+        }
+    }
+
+    private void playTurn(Game game, int turn) {
+        game.doCarTurn(journal.getDirection(turn));
+        if (!game.hasWinner()) {
+            game.switchToNextActiveCar();
+        }
+    }
+
+    /**
+     * Returns the amount of turns that can be replayed. Turns recorded after the race was decided are ignored.
+     *
+     * @return the amount of replayable turns
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public RaceJournal getJournal() {
+        return journal;
+    }
+}
@@ -0,0 +1,98 @@
+package ch.zhaw.pm2.racetrack.game.search;
+
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType;
+
+import java.util.Arrays;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.*;
+
+/**
+ * Amount of moves of a single space each track space is away from crossing the finish line in the correct direction.
+ *
+ * <p>The distances are calculated by a breadth first search starting at the spaces in front of the finish line.
+ * The finish line itself is impassable for the search, so cars starting behind the finish line get the distance
+ * of a full lap. Read only after creation, so it can be shared by any amount of simulations.</p>
+ *
+ * @version 1.0.0
+ */
+public class DistanceMap {
+    private static final int[] NEIGHBOUR_X = {-1, 0, 1, -1, 1, -1, 0, 1};
+    private static final int[] NEIGHBOUR_Y = {-1, -1, -1, 0, 0, 1, 1, 1};
+
+    private final int width;
+    private final int height;
+    private final int[] distances;
+    private final int unreachableDistance;
+
+    /**
+     * Calculates the distances of all spaces of the track.
+     *
+     * @param track the track to calculate the distances for
+     */
+    public DistanceMap(Track track) {
+        width = track.getWidth();
+        height = track.getHeight();
+        distances = new int[width * height];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        final int[] queue = new int[width * height];
+        int queueEnd = 0;
+        final PositionVector crossingDirection = getCrossingDirection(track.getFinishLineSymbol());
+        for (PositionVector finishLinePoint : track.getFinishLineCoordinates()) {
+            final int x = finishLinePoint.getX() - crossingDirection.getX();
+            final int y = finishLinePoint.getY() - crossingDirection.getY();
+            if (track.getSpaceType(x, y) == TRACK && distances[y * width + x] != 0) {
+                distances[y * width + x] = 0;
+                queue[queueEnd++] = y * width + x;
+            }
+        }
+        int maxDistance = 0;
+        for (int queueStart = 0; queueStart < queueEnd; queueStart++) {
+            final int index = queue[queueStart];
+            final int nextDistance = distances[index] + 1;
+            for (int neighbour = 0; neighbour < NEIGHBOUR_X.length; neighbour++) {
+                final int x = index % width + NEIGHBOUR_X[neighbour];
+                final int y = index / width + NEIGHBOUR_Y[neighbour];
+                if (track.getSpaceType(x, y) == TRACK && distances[y * width + x] == Integer.MAX_VALUE) {
+                    distances[y * width + x] = nextDistance;
+                    maxDistance = nextDistance;
+                    queue[queueEnd++] = y * width + x;
+                }
+            }
+        }
+        unreachableDistance = maxDistance + 1;
+    }
+
+    private static PositionVector getCrossingDirection(SpaceType finishLineSymbol) {
+        return switch (finishLineSymbol) {
+            case FINISH_UP -> new PositionVector(0, -1);
+            case FINISH_DOWN -> new PositionVector(0, 1);
+            case FINISH_LEFT -> new PositionVector(-1, 0);
+            default -> new PositionVector(1, 0);
+        };
+    }
+
+    /**
+     * Returns the distance of a space to the finish line.
+     *
+     * @param x the column of the space
+     * @param y the row of the space
+     * @return the distance, or {@link #getUnreachableDistance()} for walls, finish line and unreachable spaces
+     */
+    public int getDistance(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height || distances[y * width + x] == Integer.MAX_VALUE) {
+            return unreachableDistance;
+        }
+        return distances[y * width + x];
+    }
+
+    /**
+     * Returns the distance assigned to spaces from which the finish line can not be reached.
+     *
+     * @return one more than the largest distance of a reachable space
+     */
+    public int getUnreachableDistance() {
+        return unreachableDistance;
+    }
+}
@@ -0,0 +1,254 @@
+package ch.zhaw.pm2.racetrack.game.search;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.GameSnapshot;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Monte-Carlo tree search for the acceleration of a car in a race with other cars.
+ *
+ * <p>The tree only contains the decisions of the searching car. After each of its turns the other cars are moved
+ * by the {@link RolloutPolicy} until it is the searching car's turn again, so the search accounts for collisions
+ * with them. Leaves are evaluated by a rollout of all cars with the policy, scoring a win with 1, a crash or a
+ * backward finish line crossing with 0 and everything in between by the progress towards the finish line.</p>
+ *
+ * <p>The search is root parallel: every worker on the fork/join pool grows its own tree on its own
+ * {@link Game#fork() fork} of the game, the visits of the first decisions are summed up at the end. Workers stop
+ * at the deadline given by the time budget or after the maximum amount of iterations, whatever comes first.</p>
+ *
+ * @version 1.0.0
+ */
+public class MonteCarloTreeSearch {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final double EXPLORATION_CONSTANT = Math.sqrt(2);
+    private static final int MAX_TREE_DEPTH = 8;
+    private static final int ROLLOUT_DEPTH = 12;
+    private static final double WIN_REWARD = 1.0;
+    private static final double CRASH_REWARD = 0.0;
+    private static final double LOSS_REWARD = 0.05;
+    private static final double NEUTRAL_REWARD = 0.5;
+    private static final double PROGRESS_REWARD_RANGE = 0.45;
+    private static final double EXPECTED_PROGRESS_PER_TURN = 2.0;
+
+    private final ForkJoinPool pool;
+    private final DistanceMap distanceMap;
+    private final RolloutPolicy rolloutPolicy;
+    private final long timeBudgetNanos;
+    private final int maxIterationsPerWorker;
+    private final int workerCount;
+    private long seed;
+    private long lastIterationCount;
+
+    /**
+     * Creates a search.
+     *
+     * @param pool                   the pool running the workers
+     * @param distanceMap            the distances to the finish line of the raced track
+     * @param timeBudget             the time a single search may take
+     * @param maxIterationsPerWorker the maximum amount of iterations of each worker
+     * @param seed                   the seed of the random sources of the workers
+     */
+    public MonteCarloTreeSearch(ForkJoinPool pool, DistanceMap distanceMap, Duration timeBudget, int maxIterationsPerWorker, long seed) {
+        if (timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        if (maxIterationsPerWorker < 1) {
+            throw new IllegalArgumentException("Maximum iterations must be at least 1");
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.distanceMap = Objects.requireNonNull(distanceMap);
+        this.rolloutPolicy = new RolloutPolicy(distanceMap);
+        this.timeBudgetNanos = timeBudget.toNanos();
+        this.maxIterationsPerWorker = maxIterationsPerWorker;
+        this.workerCount = pool.getParallelism();
+        this.seed = seed;
+    }
+
+    /**
+     * Searches the best acceleration for the car whose turn it is. The game is not modified.
+     *
+     * @param game the game to search a move in, must not be modified during the search
+     * @return the acceleration visited most often by the workers
+     */
+    public Direction search(Game game) {
+        final long deadline = System.nanoTime() + timeBudgetNanos;
+        final GameSnapshot root = game.createSnapshot();
+        final List<ForkJoinTask<SearchNode>> workers = new ArrayList<>(workerCount);
+        for (int worker = 0; worker < workerCount; worker++) {
+            final Game simulation = game.fork();
+            final SplittableRandom random = new SplittableRandom(seed++);
+            workers.add(pool.submit(() -> grow(simulation, root, random, deadline)));
+        }
+        final long[] visits = new long[DIRECTIONS.length];
+        lastIterationCount = 0;
+        for (ForkJoinTask<SearchNode> worker : workers) {
+            final SearchNode tree = worker.join();
+            lastIterationCount += tree.visits;
+            for (int action = 0; action < DIRECTIONS.length; action++) {
+                if (tree.children[action] != null) {
+                    visits[action] += tree.children[action].visits;
+                }
+            }
+        }
+        return selectMostVisited(visits, game, root.getCurrentCarIndex());
+    }
+
+    private Direction selectMostVisited(long[] visits, Game game, int carIndex) {
+        int bestAction = -1;
+        for (int action = 0; action < DIRECTIONS.length; action++) {
+            if (visits[action] > 0 && (bestAction < 0 || visits[action] > visits[bestAction])) {
+                bestAction = action;
+            }
+        }
+        return bestAction < 0 ? rolloutPolicy.chooseMove(game, carIndex, new SplittableRandom(seed)) : DIRECTIONS[bestAction];
+    }
+
+    private SearchNode grow(Game simulation, GameSnapshot root, SplittableRandom random, long deadline) {
+        final SearchNode tree = new SearchNode();
+        final int carIndex = root.getCurrentCarIndex();
+        final int startDistance = getDistance(root, carIndex);
+        final SearchNode[] visitedNodes = new SearchNode[MAX_TREE_DEPTH];
+        for (int iteration = 0; iteration < maxIterationsPerWorker && System.nanoTime() < deadline; iteration++) {
+            simulation.restoreSnapshot(root);
+            SearchNode node = tree;
+            int depth = 0;
+            boolean expanded = false;
+            while (!expanded && depth < MAX_TREE_DEPTH && !isOver(simulation, carIndex)) {
+                final int action = node.selectAction(simulation, carIndex, random);
+                expanded = node.children[action] == null;
+                if (expanded) {
+                    node.children[action] = new SearchNode();
+                }
+                node = node.children[action];
+                visitedNodes[depth++] = node;
+                playTurn(simulation, carIndex, DIRECTIONS[action], random);
+            }
+            int turns = depth;
+            while (turns < depth + ROLLOUT_DEPTH && !isOver(simulation, carIndex)) {
+                playTurn(simulation, carIndex, rolloutPolicy.chooseMove(simulation, carIndex, random), random);
+                turns++;
+            }
+            final double reward = evaluate(simulation, root, carIndex, startDistance, turns);
+            tree.visits++;
+            for (int visitedNode = 0; visitedNode < depth; visitedNode++) {
+                visitedNodes[visitedNode].visits++;
+                visitedNodes[visitedNode].totalReward += reward;
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Plays a turn of the searching car and the turns of the other cars until it is the searching car's turn again.
+     */
+    private void playTurn(Game simulation, int carIndex, Direction acceleration, SplittableRandom random) {
+        simulation.doCarTurn(acceleration);
+        while (!isOver(simulation, carIndex)) {
+            simulation.switchToNextActiveCar();
+            final int currentCarIndex = simulation.getCurrentCarIndex();
+            if (simulation.hasWinner() || currentCarIndex == carIndex) {
+                return;
+            }
+            simulation.doCarTurn(rolloutPolicy.chooseMove(simulation, currentCarIndex, random));
+        }
+    }
+
+    private boolean isOver(Game simulation, int carIndex) {
+        return simulation.hasWinner() || simulation.getTrack().getCar(carIndex).isCrashed();
+    }
+
+    private double evaluate(Game simulation, GameSnapshot root, int carIndex, int startDistance, int turns) {
+        if (simulation.getWinner() == carIndex) {
+            return WIN_REWARD;
+        }
+        if (simulation.getTrack().getCar(carIndex).isCrashed()
+            || simulation.getTrack().getCar(carIndex).getFinishLineCrossings() < root.getFinishLineCrossings(carIndex)) {
+            return CRASH_REWARD;
+        }
+        if (simulation.hasWinner()) {
+            return LOSS_REWARD;
+        }
+        final int distance = distanceMap.getDistance(simulation.getCarPosition(carIndex).getX(), simulation.getCarPosition(carIndex).getY());
+        final double progress = (startDistance - distance) / (EXPECTED_PROGRESS_PER_TURN * Math.max(1, turns));
+        return NEUTRAL_REWARD + PROGRESS_REWARD_RANGE * Math.tanh(progress);
+    }
+
+    private int getDistance(GameSnapshot snapshot, int carIndex) {
+        return distanceMap.getDistance(snapshot.getCarX(carIndex), snapshot.getCarY(carIndex));
+    }
+
+    /**
+     * Returns the total amount of iterations of all workers in the last search.
+     *
+     * @return the amount of simulated futures
+     */
+    public long getLastIterationCount() {
+        return lastIterationCount;
+    }
+
+    /**
+     * Node of the search tree, owned by a single worker.
+     */
+    private static class SearchNode {
+        private final SearchNode[] children = new SearchNode[DIRECTIONS.length];
+        private boolean[] allowedActions;
+        private long visits;
+        private double totalReward;
+
+        /**
+         * Selects a random unvisited action if there is one, the action with the highest upper confidence bound
+         * otherwise. Only actions which are safe when the node is reached for the first time are considered,
+         * accelerating into a wall is never worth a simulation.
+         */
+        private int selectAction(Game simulation, int carIndex, SplittableRandom random) {
+            if (allowedActions == null) {
+                allowedActions = getSafeActions(simulation, carIndex);
+            }
+            int selectedAction = -1;
+            int unvisitedActions = 0;
+            for (int action = 0; action < children.length; action++) {
+                if (allowedActions[action] && children[action] == null && random.nextInt(++unvisitedActions) == 0) {
+                    selectedAction = action;
+                }
+            }
+            if (selectedAction >= 0) {
+                return selectedAction;
+            }
+            double bestBound = Double.NEGATIVE_INFINITY;
+            final double logVisits = Math.log(Math.max(1, visits));
+            for (int action = 0; action < children.length; action++) {
+                final SearchNode child = children[action];
+                if (child == null) {
+                    continue;
+                }
+                final double bound = child.totalReward / child.visits + EXPLORATION_CONSTANT * Math.sqrt(logVisits / child.visits);
+                if (bound > bestBound) {
+                    bestBound = bound;
+                    selectedAction = action;
+                }
+            }
+            return selectedAction;
+        }
+
+        private static boolean[] getSafeActions(Game simulation, int carIndex) {
+            final boolean[] safeActions = new boolean[DIRECTIONS.length];
+            boolean anySafe = false;
+            for (int action = 0; action < DIRECTIONS.length; action++) {
+                safeActions[action] = RolloutPolicy.isSafeMove(simulation, carIndex, DIRECTIONS[action]);
+                anySafe |= safeActions[action];
+            }
+            if (!anySafe) {
+                safeActions[Direction.NONE.ordinal()] = true;
+            }
+            return safeActions;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package ch.zhaw.pm2.racetrack.game.search;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fast policy choosing the moves of all cars during the random part of a simulation.
+ *
+ * <p>Only accelerations after which the car is still able to brake to a standstill without crashing are
+ * considered. Mostly the one bringing the car closest to the finish line is chosen, otherwise a random one, so the
+ * simulated cars behave like reasonable but imperfect opponents. Stateless, so it can be shared by all
+ * simulations.</p>
+ *
+ * @version 1.0.0
+ */
+public class RolloutPolicy {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final double GREEDY_PROBABILITY = 0.75;
+
+    private final DistanceMap distanceMap;
+
+    /**
+     * Creates a policy heading towards the finish line of the given distance map.
+     *
+     * @param distanceMap the distances to the finish line
+     */
+    public RolloutPolicy(DistanceMap distanceMap) {
+        this.distanceMap = distanceMap;
+    }
+
+    /**
+     * Chooses the acceleration of a car.
+     *
+     * @param game     the simulated game
+     * @param carIndex the car to move
+     * @param random   the random source of the simulation
+     * @return the chosen acceleration, NONE if every acceleration crashes the car
+     */
+    public Direction chooseMove(Game game, int carIndex, SplittableRandom random) {
+        final boolean greedy = random.nextDouble() < GREEDY_PROBABILITY;
+        final PositionVector position = game.getCarPosition(carIndex);
+        final PositionVector velocity = game.getCarVelocity(carIndex);
+        Direction chosenMove = Direction.NONE;
+        int bestDistance = Integer.MAX_VALUE;
+        int safeMoves = 0;
+        for (Direction direction : DIRECTIONS) {
+            if (isSafeMove(game, carIndex, direction)) {
+                safeMoves++;
+                if (greedy) {
+                    final PositionVector end = getEnd(position, velocity, direction);
+                    final int distance = distanceMap.getDistance(end.getX(), end.getY());
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        chosenMove = direction;
+                    }
+                } else if (random.nextInt(safeMoves) == 0) {
+                    chosenMove = direction;
+                }
+            }
+        }
+        return chosenMove;
+    }
+
+    /**
+     * Checks whether a car survives the given acceleration and is able to brake to a standstill afterwards.
+     *
+     * @param game         the simulated game
+     * @param carIndex     the moving car
+     * @param acceleration the acceleration to check
+     * @return true if the acceleration neither crashes the car now nor forces it to crash later
+     */
+    static boolean isSafeMove(Game game, int carIndex, Direction acceleration) {
+        final PositionVector position = game.getCarPosition(carIndex);
+        final PositionVector velocity = game.getCarVelocity(carIndex);
+        final PositionVector end = getEnd(position, velocity, acceleration);
+        return isSafe(game, carIndex, position, end)
+            && canStop(game, carIndex, end, PositionVector.add(velocity, acceleration.getVector()));
+    }
+
+    private static PositionVector getEnd(PositionVector position, PositionVector velocity, Direction acceleration) {
+        return PositionVector.add(position, PositionVector.add(velocity, acceleration.getVector()));
+    }
+
+    /**
+     * Checks whether a car is able to brake to a standstill without crashing, assuming the other cars stay.
+     */
+    private static boolean canStop(Game game, int carIndex, PositionVector position, PositionVector velocity) {
+        int x = position.getX();
+        int y = position.getY();
+        int velocityX = velocity.getX();
+        int velocityY = velocity.getY();
+        while (velocityX != 0 || velocityY != 0) {
+            velocityX -= Integer.signum(velocityX);
+            velocityY -= Integer.signum(velocityY);
+            final PositionVector start = new PositionVector(x, y);
+            x += velocityX;
+            y += velocityY;
+            if (!isSafe(game, carIndex, start, new PositionVector(x, y))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a car survives the move from start to end in the current state of the game.
+     *
+     * @param game     the simulated game
+     * @param carIndex the moving car
+     * @param start    the position of the car
+     * @param end      the position after the move
+     * @return true if no space of the path crashes the car
+     */
+    static boolean isSafe(Game game, int carIndex, PositionVector start, PositionVector end) {
+        for (PositionVector point : game.calculatePath(start, end)) {
+            if (game.willCarCrash(carIndex, point)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,184 @@
+package ch.zhaw.pm2.racetrack.game.spectator;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.event.GameEvent;
+import ch.zhaw.pm2.racetrack.game.event.GameEventBus;
+import ch.zhaw.pm2.racetrack.game.event.GameEventListener;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static ch.zhaw.pm2.racetrack.game.event.GameEventType.CAR_CRASHED;
+import static ch.zhaw.pm2.racetrack.game.event.GameEventType.MOVE_RESOLVED;
+
+/**
+ * Broadcasts a running race to any amount of spectators as a stream of {@link SpectatorFrame frames}.
+ *
+ * <p>The feed listens to the {@link GameEventBus} of the game and keeps a screen of the track of its own. Every move
+ * or crash changing the screen is turned into a single delta holding the changed cells, which is handed to all
+ * {@link SpectatorSubscription subscriptions}, so the track is neither rendered again for every frame nor for every
+ * spectator. Handing out a frame never waits: a subscription whose queue is full gets a keyframe of the current
+ * screen instead of its waiting deltas. New subscriptions start with a keyframe as well.</p>
+ *
+ * <p>The feed has to be created from the track before the race starts and subscribed to the bus of the game.</p>
+ *
+ * @version 1.0.0
+ */
+public class SpectatorFeed implements GameEventListener {
+    /**
+     * Amount of frames a subscription may fall behind if none is given.
+     */
+    public static final int DEFAULT_SUBSCRIPTION_CAPACITY = 64;
+
+    private final int width;
+    private final char[] background;
+    private final char[] screen;
+    private final char[] carIds;
+    private final int[] carCells;
+    private final boolean[] carsCrashed;
+    private final List<SpectatorSubscription> subscriptions = new ArrayList<>();
+    private long frameNumber;
+    private SpectatorFrame keyframe;
+
+    /**
+     * Creates a feed showing the track in its current state.
+     *
+     * @param track the track of the race, with the cars at their start positions
+     */
+    public SpectatorFeed(Track track) {
+        Objects.requireNonNull(track);
+        width = track.getWidth();
+        background = new char[width * track.getHeight()];
+        for (int y = 0; y < track.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                background[y * width + x] = track.getSpaceType(x, y).getValue();
+            }
+        }
+        final List<Car> cars = track.getCarsOnTrack();
+        carIds = new char[cars.size()];
+        carCells = new int[cars.size()];
+        carsCrashed = new boolean[cars.size()];
+        for (int carIndex = 0; carIndex < cars.size(); carIndex++) {
+            final Car car = cars.get(carIndex);
+            carIds[carIndex] = car.getId();
+            carCells[carIndex] = car.getPosition().getY() * width + car.getPosition().getX();
+            carsCrashed[carIndex] = car.isCrashed();
+        }
+        screen = background.clone();
+        for (int cell = 0; cell < screen.length; cell++) {
+            screen[cell] = renderCell(cell);
+        }
+    }
+
+    /**
+     * Adds a spectator with a queue of {@link #DEFAULT_SUBSCRIPTION_CAPACITY} frames.
+     *
+     * @return the subscription, starting with a keyframe of the current screen
+     */
+    public SpectatorSubscription subscribe() {
+        return subscribe(DEFAULT_SUBSCRIPTION_CAPACITY);
+    }
+
+    /**
+     * Adds a spectator.
+     *
+     * @param capacity the amount of frames the spectator may fall behind before it gets a keyframe instead
+     * @return the subscription, starting with a keyframe of the current screen
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public synchronized SpectatorSubscription subscribe(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        final SpectatorSubscription subscription = new SpectatorSubscription(this, capacity);
+        subscription.offer(getKeyframe());
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    synchronized void unsubscribe(SpectatorSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Returns the amount of subscribed spectators.
+     *
+     * @return the subscription count
+     */
+    public synchronized int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Returns a keyframe of the current screen, the state after the latest frame.
+     *
+     * @return the keyframe
+     */
+    public synchronized SpectatorFrame getKeyframe() {
+        if (keyframe == null) {
+            keyframe = new SpectatorFrame(frameNumber, true, width, null, screen.clone());
+        }
+        return keyframe;
+    }
+
+    /**
+     * Updates the screen with moves and crashes and hands the changed cells to all subscriptions.
+     *
+     * @param event the event of the game
+     */
+    @Override
+    public synchronized void onEvent(GameEvent event) {
+        if (event.getType() != MOVE_RESOLVED && event.getType() != CAR_CRASHED) {
+            return;
+        }
+        final int carIndex = event.getCarIndex();
+        final int previousCell = carCells[carIndex];
+        carCells[carIndex] = event.getY() * width + event.getX();
+        carsCrashed[carIndex] |= event.getType() == CAR_CRASHED;
+        final int nextCell = carCells[carIndex];
+        final boolean previousCellChanged = updateCell(previousCell);
+        final boolean nextCellChanged = nextCell != previousCell && updateCell(nextCell);
+        if (previousCellChanged && nextCellChanged) {
+            publish(new int[]{previousCell, nextCell});
+        } else if (previousCellChanged || nextCellChanged) {
+            publish(new int[]{previousCellChanged ? previousCell : nextCell});
+        }
+    }
+
+    private boolean updateCell(int cell) {
+        final char value = renderCell(cell);
+        final boolean changed = screen[cell] != value;
+        screen[cell] = value;
+        return changed;
+    }
+
+    private void publish(int[] changedCells) {
+        final char[] changedValues = new char[changedCells.length];
+        for (int change = 0; change < changedCells.length; change++) {
+            changedValues[change] = screen[changedCells[change]];
+        }
+        frameNumber++;
+        keyframe = null;
+        final SpectatorFrame delta = new SpectatorFrame(frameNumber, false, width, changedCells, changedValues);
+        for (SpectatorSubscription subscription : subscriptions) {
+            if (!subscription.offer(delta)) {
+                subscription.resync(getKeyframe());
+            }
+        }
+    }
+
+    /**
+     * Renders a cell like {@link Track#getCharAtPosition(int, int, ch.zhaw.pm2.racetrack.given.SpaceType)}, showing
+     * the first car on the cell.
+     */
+    private char renderCell(int cell) {
+        for (int carIndex = 0; carIndex < carCells.length; carIndex++) {
+            if (carCells[carIndex] == cell) {
+                return carsCrashed[carIndex] ? Track.CRASH_INDICATOR : carIds[carIndex];
+            }
+        }
+        return background[cell];
+    }
+}
@@ -0,0 +1,117 @@
+package ch.zhaw.pm2.racetrack.game.spectator;
+
+import java.util.Objects;
+
+/**
+ * A frame of the spectator feed, either a keyframe holding every cell of the track or a delta holding only the cells
+ * which changed since the previous frame.
+ *
+ * <p>Frames are immutable and shared by all subscriptions of a {@link SpectatorFeed}, so a frame is produced once no
+ * matter how many spectators watch the race. A delta only applies to the screen of the frame before it, a keyframe
+ * applies to any screen of the right size.</p>
+ *
+ * @version 1.0.0
+ */
+public class SpectatorFrame {
+    private final long number;
+    private final boolean keyframe;
+    private final int width;
+    private final int[] cells;
+    private final char[] values;
+
+    /**
+     * Creates a frame.
+     *
+     * @param number   the number of the frame, starting at 0 for the track before the first move
+     * @param keyframe true if the frame holds every cell of the track
+     * @param width    the width of the track
+     * @param cells    the indices ({@code y * width + x}) of the changed cells, null for a keyframe
+     * @param values   the characters of the changed cells, or of all cells row by row for a keyframe
+     */
+    SpectatorFrame(long number, boolean keyframe, int width, int[] cells, char[] values) {
+        this.number = number;
+        this.keyframe = keyframe;
+        this.width = width;
+        this.cells = cells;
+        this.values = values;
+    }
+
+    /**
+     * Returns the number of the frame. A keyframe sent for a resync has the number of the delta it replaces.
+     *
+     * @return the frame number
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    public boolean isKeyframe() {
+        return keyframe;
+    }
+
+    /**
+     * Returns the amount of cells held by the frame.
+     *
+     * @return the amount of changed cells, or all cells of the track for a keyframe
+     */
+    public int getCellCount() {
+        return values.length;
+    }
+
+    /**
+     * Returns the x coordinate of a cell of the frame.
+     *
+     * @param cell the index of the cell within the frame
+     * @return the x coordinate on the track
+     */
+    public int getX(int cell) {
+        return getTrackIndex(cell) % width;
+    }
+
+    /**
+     * Returns the y coordinate of a cell of the frame.
+     *
+     * @param cell the index of the cell within the frame
+     * @return the y coordinate on the track
+     */
+    public int getY(int cell) {
+        return getTrackIndex(cell) / width;
+    }
+
+    /**
+     * Returns the character of a cell of the frame, as shown by {@link
+     * ch.zhaw.pm2.racetrack.game.track.Track#toString()}.
+     *
+     * @param cell the index of the cell within the frame
+     * @return the character of the cell
+     */
+    public char getValue(int cell) {
+        return values[cell];
+    }
+
+    private int getTrackIndex(int cell) {
+        return keyframe ? cell : cells[cell];
+    }
+
+    /**
+     * Writes the cells of the frame into a screen.
+     *
+     * @param screen the rows of the screen, as wide and high as the track
+     * @throws IllegalArgumentException if the screen is not as wide as the track
+     */
+    public void applyTo(char[][] screen) {
+        Objects.requireNonNull(screen);
+        if (screen.length > 0 && screen[0].length != width) {
+            throw new IllegalArgumentException("Screen must be as wide as the track");
+        }
+        for (int cell = 0; cell < values.length; cell++) {
+            final int trackIndex = getTrackIndex(cell);
+            screen[trackIndex / width][trackIndex % width] = values[cell];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (keyframe ? "keyframe " : "delta ") + number + " with " + values.length + " cells";
+    }
+}
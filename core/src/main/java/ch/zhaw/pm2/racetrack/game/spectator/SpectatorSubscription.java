@@ -0,0 +1,82 @@
+package ch.zhaw.pm2.racetrack.game.spectator;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The frames of a {@link SpectatorFeed} waiting for a single spectator.
+ *
+ * <p>The frames are kept in a bounded queue which the feed fills without ever waiting. If the spectator falls so far
+ * behind that the queue is full, the waiting deltas are dropped and replaced by a single keyframe of the current
+ * state, so a slow spectator skips frames instead of slowing down the race.</p>
+ *
+ * @version 1.0.0
+ */
+public class SpectatorSubscription implements Closeable {
+    private final SpectatorFeed feed;
+    private final BlockingQueue<SpectatorFrame> frames;
+    private volatile int resyncCount;
+
+    SpectatorSubscription(SpectatorFeed feed, int capacity) {
+        this.feed = feed;
+        frames = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Returns the next frame without waiting.
+     *
+     * @return the next frame, or null if there is none yet
+     */
+    public SpectatorFrame poll() {
+        return frames.poll();
+    }
+
+    /**
+     * Returns the next frame, waiting for it if there is none yet.
+     *
+     * @param timeout the longest time to wait
+     * @param unit    the unit of the timeout
+     * @return the next frame, or null if there was none within the timeout
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public SpectatorFrame poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return frames.poll(timeout, unit);
+    }
+
+    /**
+     * Returns how often the waiting frames were replaced by a keyframe as the spectator fell behind.
+     *
+     * @return the amount of resyncs
+     */
+    public int getResyncCount() {
+        return resyncCount;
+    }
+
+    /**
+     * Stops receiving frames.
+     */
+    @Override
+    public void close() {
+        feed.unsubscribe(this);
+    }
+
+    /**
+     * Adds a delta without waiting.
+     *
+     * @return false if the queue is full
+     */
+    boolean offer(SpectatorFrame frame) {
+        return frames.offer(frame);
+    }
+
+    /**
+     * Replaces all waiting frames by a keyframe. Only called by the feed, which is the only thread adding frames.
+     */
+    void resync(SpectatorFrame keyframe) {
+        frames.clear();
+        frames.offer(keyframe);
+        resyncCount++;
+    }
+}
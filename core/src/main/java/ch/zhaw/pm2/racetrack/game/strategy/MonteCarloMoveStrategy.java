@@ -0,0 +1,71 @@
+package ch.zhaw.pm2.racetrack.game.strategy;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.search.DistanceMap;
+import ch.zhaw.pm2.racetrack.game.search.MonteCarloTreeSearch;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.CounterMetric.SEARCH_ITERATIONS;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.PATH_FINDER;
+
+/**
+ * Contains the logic for a bot searching its moves with a {@link MonteCarloTreeSearch}, taking the other cars into
+ * account. Every move is searched within the given time budget on the common fork/join pool.
+ *
+ * <p>As the strategy types are given, this strategy reports itself as {@link StrategyType#PATH_FINDER}.</p>
+ *
+ * @version 1.0.0
+ */
+public class MonteCarloMoveStrategy implements MoveStrategy {
+    private static final int UNLIMITED_ITERATIONS = Integer.MAX_VALUE;
+
+    private final Game game;
+    private final MonteCarloTreeSearch search;
+
+    /**
+     * Creates a monte carlo move strategy searching on the common pool.
+     *
+     * @param game       the current game instance
+     * @param timeBudget the time a single move may take
+     * @param seed       the seed of the random simulations
+     */
+    public MonteCarloMoveStrategy(Game game, Duration timeBudget, long seed) {
+        this(game, ForkJoinPool.commonPool(), timeBudget, UNLIMITED_ITERATIONS, seed);
+    }
+
+    /**
+     * Creates a monte carlo move strategy.
+     *
+     * @param game                   the current game instance
+     * @param pool                   the pool running the simulations
+     * @param timeBudget             the time a single move may take
+     * @param maxIterationsPerWorker the maximum amount of simulations per worker and move
+     * @param seed                   the seed of the random simulations
+     */
+    public MonteCarloMoveStrategy(Game game, ForkJoinPool pool, Duration timeBudget, int maxIterationsPerWorker, long seed) {
+        this.game = game;
+        search = new MonteCarloTreeSearch(pool, new DistanceMap(game.getTrack()), timeBudget, maxIterationsPerWorker, seed);
+    }
+
+    @Override
+    public Direction nextMove() {
+        final Direction move = search.search(game);
+        game.getMetrics().increment(SEARCH_ITERATIONS, search.getLastIterationCount());
+        return move;
+    }
+
+    @Override
+    public Direction nextMove(int acceleration) {
+        //NOP
+        throw new UnsupportedOperationException("CALLED NOP IMPLEMENTATION");
+    }
+
+    @Override
+    public StrategyType getMovementStrategyType() {
+        return PATH_FINDER;
+    }
+}
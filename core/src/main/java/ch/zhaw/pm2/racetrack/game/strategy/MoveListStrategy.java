@@ -0,0 +1,78 @@
+package ch.zhaw.pm2.racetrack.game.strategy;
+
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSequence;
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSource;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
+
+import java.util.List;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.MOVE_LIST;
+
+/**
+ * The Move List Strategy class determines the next move based on a file containing directions.
+ * The moves are taken from a {@link DirectionSource}, so long move lists can be streamed from a file.
+ *
+ * @author weberph5
+ * @version 1.0.0
+ */
+
+public class MoveListStrategy implements MoveStrategy {
+    private final DirectionSource directionSource;
+
+    /**
+     * Creates a move list strategy object.
+     *
+     * @param directionsList a list of directions which was previously loaded
+     */
+
+    public MoveListStrategy(List<Direction> directionsList) {
+        this(new DirectionSequence(directionsList));
+    }
+
+    /**
+     * Creates a move list strategy object following a sequence from its start.
+     * The sequence can be shared with other strategies.
+     *
+     * @param directionSequence the moves to follow
+     */
+    public MoveListStrategy(DirectionSequence directionSequence) {
+        this(directionSequence.cursor());
+    }
+
+    /**
+     * Creates a move list strategy object following the moves of a source.
+     *
+     * @param directionSource the source of the moves, e.g. a streamed move list file
+     */
+    public MoveListStrategy(DirectionSource directionSource) {
+        this.directionSource = directionSource;
+    }
+
+    @Override
+    public Direction nextMove() {
+        if (!directionSource.hasNext()) {
+            return Direction.NONE;
+        }
+        return directionSource.next();
+    }
+
+    @Override
+    public Direction nextMove(int acceleration) {
+        //NOP
+        throw new UnsupportedOperationException("CALLED NOP IMPLEMENTATION");
+    }
+
+    @Override
+    public StrategyType getMovementStrategyType() {
+        return MOVE_LIST;
+    }
+
+    /**
+     * Closes the source of the moves, releasing its file if the game ended before the last move was read.
+     */
+    @Override
+    public void close() {
+        directionSource.close();
+    }
+}
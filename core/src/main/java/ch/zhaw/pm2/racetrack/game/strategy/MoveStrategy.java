@@ -4,7 +4,7 @@ import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
 
 import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
 
-public interface MoveStrategy {
+public interface MoveStrategy extends AutoCloseable {
     /**
      * Provides a user specific movement strategy implementation used while playing the game
      *
@@ -26,4 +26,11 @@ public interface MoveStrategy {
      * @return Movement strategy type
      */
     StrategyType getMovementStrategyType();
+
+    /**
+     * Releases the resources held by the strategy, e.g. an open move list file. Called once the game ended.
+     */
+    @Override
+    default void close() {
+    }
 }
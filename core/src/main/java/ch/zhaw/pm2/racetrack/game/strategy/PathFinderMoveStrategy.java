@@ -0,0 +1,73 @@
+package ch.zhaw.pm2.racetrack.game.strategy;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.metrics.GameMetrics;
+import ch.zhaw.pm2.racetrack.game.path.finder.PathFinder;
+import ch.zhaw.pm2.racetrack.game.path.finder.PathFinderStatistics;
+import ch.zhaw.pm2.racetrack.game.path.finder.PathPointFollower;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
+
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.CounterMetric.*;
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.LatencyMetric.*;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.PATH_FINDER;
+
+/**
+ * Contains the logic for the pathfinder strategy.
+ *
+ * @author abuechi
+ * @version 1.0.0
+ */
+public class PathFinderMoveStrategy implements MoveStrategy {
+    private final PathPointFollower pathPointFollower;
+    private final PathFinderStatistics pathFinderStatistics;
+
+    /**
+     * Creates a pathfinder move strategy object
+     *
+     * @param gameInstance the current game instance
+     */
+    public PathFinderMoveStrategy(Game gameInstance) {
+        final GameMetrics metrics = gameInstance.getMetrics();
+        final long creationStart = metrics.startMeasurement();
+        final PathFinder pathFinder = new PathFinder(gameInstance.getTrack(), gameInstance.getCurrentCarIndex());
+        metrics.stopMeasurement(PATH_FINDER_CREATION, creationStart);
+        pathFinderStatistics = pathFinder.getStatistics();
+        recordPathFinderStatistics(metrics);
+        pathPointFollower = new PathPointFollower(pathFinder, gameInstance.getCurrentCarIndex(), gameInstance);
+    }
+
+    private void recordPathFinderStatistics(GameMetrics metrics) {
+        metrics.record(PATH_FINDER_SEARCH, pathFinderStatistics.getSearchNanos());
+        metrics.record(PATH_FINDER_SMOOTHING, pathFinderStatistics.getSmoothingNanos());
+        metrics.increment(PATH_FINDER_EXPANDED_NODES, pathFinderStatistics.getExpandedNodes());
+        metrics.increment(PATH_FINDER_VISITED_NODES, pathFinderStatistics.getVisitedNodes());
+        metrics.increment(PATH_FINDER_LINE_OF_SIGHT_CHECKS, pathFinderStatistics.getLineOfSightChecks());
+        metrics.updateMaximum(PATH_FINDER_PEAK_FRONTIER, pathFinderStatistics.getPeakFrontierSize());
+    }
+
+    /**
+     * Returns the statistics of the path search performed for this strategy.
+     *
+     * @return the search statistics
+     */
+    public PathFinderStatistics getPathFinderStatistics() {
+        return pathFinderStatistics;
+    }
+
+    @Override
+    public Direction nextMove() {
+        return pathPointFollower.calculateNextMove();
+    }
+
+    @Override
+    public Direction nextMove(int acceleration) {
+        //NOP
+        throw new UnsupportedOperationException("CALLED NOP IMPLEMENTATION");
+    }
+
+    @Override
+    public StrategyType getMovementStrategyType() {
+        return PATH_FINDER;
+    }
+}
@@ -1,5 +1,6 @@
 package ch.zhaw.pm2.racetrack.game.strategy;
 
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSequence;
 import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
 
 import java.util.List;
@@ -15,8 +16,7 @@ import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.PATH_
  */
 public class PathFollowerMoveStrategy implements MoveStrategy {
 
-    private static final int FIRST_ROW_INDEX = 0;
-    private final List<Direction> directionsList;
+    private final DirectionSequence.Cursor directions;
 
     /**
      * This class contains the logic for the Path Follower Strategy
@@ -25,17 +25,25 @@ public class PathFollowerMoveStrategy implements MoveStrategy {
      * @author weberph5
      */
     public PathFollowerMoveStrategy(List<Direction> directionsList) {
-        this.directionsList = directionsList;
+        this(new DirectionSequence(directionsList));
+    }
+
+    /**
+     * Creates a path follower strategy following a sequence from its start.
+     * The sequence can be shared with other strategies.
+     *
+     * @param directionSequence the directions to follow move by move
+     */
+    public PathFollowerMoveStrategy(DirectionSequence directionSequence) {
+        this.directions = directionSequence.cursor();
     }
 
     @Override
     public Direction nextMove() {
-        if (directionsList.isEmpty()) {
+        if (!directions.hasNext()) {
             return Direction.NONE;
         }
-        Direction direction = directionsList.get(FIRST_ROW_INDEX);
-        directionsList.remove(FIRST_ROW_INDEX);
-        return direction;
+        return directions.next();
     }
 
     @Override
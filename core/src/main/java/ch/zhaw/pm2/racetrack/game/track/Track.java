@@ -60,8 +60,12 @@ import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.*;
  */
 public class Track implements TrackSpecification {
 
+    /**
+     * Character shown instead of the id of a crashed car.
+     */
+    public static final char CRASH_INDICATOR = 'X';
+
     private static final int FIRST_FINISH_LINE_INDEX = 0;
-    private static final char CRASH_INDICATOR = 'X';
     private final List<PositionVector> finishLineCoordinates;
     private final List<Car> carsOnTrack;
     private final List<List<SpaceType>> raceTrack;
@@ -78,6 +82,42 @@ public class Track implements TrackSpecification {
         createRaceTrack(trackFileRows);
     }
 
+    /**
+     * Creates a track from an already built grid and finish line, as stored by the {@link TrackCache}.
+     * The cars have to be added afterwards.
+     *
+     * @param raceTrack             the rows of the grid, not modified afterwards
+     * @param finishLineCoordinates the finish line spaces in the order of the grid
+     */
+    Track(final List<List<SpaceType>> raceTrack, final List<PositionVector> finishLineCoordinates) {
+        this.raceTrack = raceTrack;
+        this.finishLineCoordinates = finishLineCoordinates;
+        carsOnTrack = new ArrayList<>();
+    }
+
+    /**
+     * Creates a track sharing the grid and finish line of the template, with own cars at the template's
+     * car positions.
+     */
+    private Track(final Track template) {
+        finishLineCoordinates = template.finishLineCoordinates;
+        raceTrack = template.raceTrack;
+        carsOnTrack = new ArrayList<>(template.carsOnTrack.size());
+        for (Car car : template.carsOnTrack) {
+            addCarToTheRace(car.getId(), car.getPosition());
+        }
+    }
+
+    /**
+     * Creates a fork of this track for simulations. The grid is never modified after loading, so it is shared
+     * with the fork instead of being copied, only the cars are new.
+     *
+     * @return a track with the same grid and new cars at the positions of this track's cars
+     */
+    public Track fork() {
+        return new Track(this);
+    }
+
     private void createRaceTrack(List<String> trackFileRows) {
         for (String row : trackFileRows) {
             addGridRowToRaceTrack(row);
@@ -93,7 +133,40 @@ public class Track implements TrackSpecification {
      */
     @Override
     public SpaceType getSpaceType(PositionVector position) {
-        return raceTrack.get(position.getY()).get(position.getX());
+        return getSpaceType(position.getX(), position.getY());
+    }
+
+    /**
+     * Return the type of space at the given coordinates.
+     * If the location is outside the track bounds, it is considered a wall.
+     *
+     * @param x the column of the space
+     * @param y the row of the space
+     * @return The type of track position at the given location
+     */
+    public SpaceType getSpaceType(int x, int y) {
+        if (y < 0 || y >= raceTrack.size() || x < 0 || x >= raceTrack.get(y).size()) {
+            return WALL;
+        }
+        return raceTrack.get(y).get(x);
+    }
+
+    /**
+     * Return the number of columns of the track grid.
+     *
+     * @return the width of the track
+     */
+    public int getWidth() {
+        return raceTrack.isEmpty() ? 0 : raceTrack.get(0).size();
+    }
+
+    /**
+     * Return the number of rows of the track grid.
+     *
+     * @return the height of the track
+     */
+    public int getHeight() {
+        return raceTrack.size();
     }
 
     /**
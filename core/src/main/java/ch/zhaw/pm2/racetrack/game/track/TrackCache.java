@@ -0,0 +1,184 @@
+package ch.zhaw.pm2.racetrack.game.track;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keeps fully built tracks in a cache directory, so a track file is parsed only once.
+ *
+ * <p>A cache entry contains the grid, the finish line and the start positions of the cars in a binary format. It is
+ * named after the track file, a hash of the file's canonical path and the SHA-256 hash of the file's content, so
+ * changing a track file invalidates its entry and track files of the same name in different directories do not share
+ * their entries. The outdated entries of the track file are deleted when the new entry is written. Entries which can not
+ * be read are rebuilt from the track file, and if the cache directory can not be written the tracks are built
+ * without caching them.</p>
+ *
+ * @version 1.0.0
+ */
+public class TrackCache {
+    private static final int MAGIC = 0x52544331;
+    private static final String ENTRY_EXTENSION = ".track";
+    private static final int HASH_LENGTH = 64;
+    private static final int PATH_HASH_LENGTH = 16;
+    private static final String HASH_SEPARATOR = "-";
+    private static final SpaceType[] SPACE_TYPES = SpaceType.values();
+
+    private final File cacheDirectory;
+    private final TrackLoader trackLoader = new TrackLoader();
+
+    /**
+     * Creates a cache storing its entries in the given directory, which is created when the first entry is written.
+     *
+     * @param cacheDirectory the directory of the cache entries
+     */
+    public TrackCache(File cacheDirectory) {
+        this.cacheDirectory = Objects.requireNonNull(cacheDirectory);
+    }
+
+    /**
+     * Loads the track of the given track file from the cache, or builds and caches it if it is not cached yet.
+     *
+     * @param trackFile the track file
+     * @return a new track with the cars at their start positions
+     * @throws IOException if the track file could not be read or is no valid track file
+     */
+    public Track loadTrack(File trackFile) throws IOException {
+        final File entry = getEntry(trackFile);
+        if (entry.isFile()) {
+            try {
+                return readEntry(entry);
+            } catch (IOException | RuntimeException e) {
+                // the entry is damaged and rebuilt from the track file
+            }
+        }
+        final List<String> trackFileRows = trackLoader.loadTrackFile(trackFile);
+        if (!trackLoader.isTrackFileValid(trackFileRows)) {
+            throw new IOException("Invalid track file " + trackFile);
+        }
+        final Track track = new Track(trackFileRows);
+        try {
+            writeEntry(track, entry);
+            deleteOutdatedEntries(trackFile, entry);
+        } catch (IOException e) {
+            // the cache is only an optimization, the track is used without caching it
+        }
+        return track;
+    }
+
+    /**
+     * Returns the cache entry for the current content of the given track file.
+     *
+     * @param trackFile the track file
+     * @return the file the track is cached in, which does not exist if the track is not cached yet
+     * @throws IOException if the track file could not be read
+     */
+    public File getEntry(File trackFile) throws IOException {
+        return new File(cacheDirectory, getEntryPrefix(trackFile) + hash(trackFile) + ENTRY_EXTENSION);
+    }
+
+    private static String getEntryPrefix(File trackFile) throws IOException {
+        final String pathHash = hash(trackFile.getCanonicalPath().getBytes(UTF_8)).substring(0, PATH_HASH_LENGTH);
+        return trackFile.getName() + HASH_SEPARATOR + pathHash + HASH_SEPARATOR;
+    }
+
+    private static String hash(File trackFile) throws IOException {
+        return hash(Files.readAllBytes(trackFile.toPath()));
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    private Track readEntry(File entry) throws IOException {
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(entry)))) {
+            if (inputStream.readInt() != MAGIC) {
+                throw new IOException("No cached track " + entry);
+            }
+            final int width = inputStream.readInt();
+            final int height = inputStream.readInt();
+            final byte[] rowSpaces = new byte[width];
+            final List<List<SpaceType>> raceTrack = new ArrayList<>(height);
+            for (int y = 0; y < height; y++) {
+                inputStream.readFully(rowSpaces);
+                final SpaceType[] row = new SpaceType[width];
+                for (int x = 0; x < width; x++) {
+                    row[x] = SPACE_TYPES[rowSpaces[x]];
+                }
+                raceTrack.add(Arrays.asList(row));
+            }
+            final int finishLineLength = inputStream.readInt();
+            final List<PositionVector> finishLineCoordinates = new ArrayList<>(finishLineLength);
+            for (int point = 0; point < finishLineLength; point++) {
+                finishLineCoordinates.add(new PositionVector(inputStream.readInt(), inputStream.readInt()));
+            }
+            final Track track = new Track(raceTrack, finishLineCoordinates);
+            final int carCount = inputStream.readInt();
+            for (int car = 0; car < carCount; car++) {
+                track.addCarToTheRace(inputStream.readChar(), new PositionVector(inputStream.readInt(), inputStream.readInt()));
+            }
+            return track;
+        }
+    }
+
+    private void writeEntry(Track track, File entry) throws IOException {
+        Files.createDirectories(cacheDirectory.toPath());
+        final File temporaryEntry = File.createTempFile(entry.getName(), null, cacheDirectory);
+        try {
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryEntry)))) {
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(track.getWidth());
+                outputStream.writeInt(track.getHeight());
+                for (int y = 0; y < track.getHeight(); y++) {
+                    for (int x = 0; x < track.getWidth(); x++) {
+                        outputStream.writeByte(track.getSpaceType(x, y).ordinal());
+                    }
+                }
+                outputStream.writeInt(track.getFinishLineCoordinates().size());
+                for (PositionVector point : track.getFinishLineCoordinates()) {
+                    outputStream.writeInt(point.getX());
+                    outputStream.writeInt(point.getY());
+                }
+                outputStream.writeInt(track.getCarCount());
+                for (Car car : track.getCarsOnTrack()) {
+                    outputStream.writeChar(car.getId());
+                    outputStream.writeInt(car.getPosition().getX());
+                    outputStream.writeInt(car.getPosition().getY());
+                }
+            }
+            Files.move(temporaryEntry.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryEntry.toPath());
+        }
+    }
+
+    private void deleteOutdatedEntries(File trackFile, File currentEntry) throws IOException {
+        final String entryPrefix = getEntryPrefix(trackFile);
+        final File[] entries = cacheDirectory.listFiles((directory, name) -> name.startsWith(entryPrefix)
+            && name.endsWith(ENTRY_EXTENSION) && name.length() == entryPrefix.length() + HASH_LENGTH + ENTRY_EXTENSION.length());
+        if (entries != null) {
+            for (File entry : entries) {
+                if (!entry.equals(currentEntry)) {
+                    Files.deleteIfExists(entry.toPath());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package ch.zhaw.pm2.racetrack.game.track.generator;
+
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.*;
+
+/**
+ * Abstract base for procedurally generated track shapes.
+ *
+ * <p>Shapes are described in a canonical orientation: the finish line is a vertical {@link SpaceType#FINISH_RIGHT}
+ * segment which has to be crossed from left to right. Every space is calculated from its coordinates alone, so a shape
+ * never holds the grid and can be streamed row by row (or column by column) by the {@link TrackGenerator}.</p>
+ *
+ * @version 1.0.0
+ */
+public abstract class AbstractTrackShape {
+    private final int width;
+    private final int height;
+    private final int corridorWidth;
+    private final long seed;
+
+    /**
+     * Creates a track shape in canonical orientation
+     *
+     * @param width         the width of the shape
+     * @param height        the height of the shape
+     * @param corridorWidth the width of corridors in the shape
+     * @param seed          the seed used for every random decision
+     */
+    protected AbstractTrackShape(int width, int height, int corridorWidth, long seed) {
+        this.width = width;
+        this.height = height;
+        this.corridorWidth = corridorWidth;
+        this.seed = seed;
+    }
+
+    /**
+     * Calculates the space type at the given position. Finish line spaces are always {@link SpaceType#FINISH_RIGHT}.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the space type at the given position
+     */
+    public abstract SpaceType getSpaceType(int x, int y);
+
+    /**
+     * Calculates the starting positions of the cars.
+     *
+     * @param carCount the amount of cars to place
+     * @return the starting positions in canonical orientation
+     */
+    public abstract List<PositionVector> getStartPositions(int carCount);
+
+    /**
+     * Collects track spaces inside the given rectangle column by column until enough positions are found.
+     *
+     * @param firstX   the first column to search
+     * @param lastX    the last column to search
+     * @param firstY   the first row to search
+     * @param lastY    the last row to search
+     * @param carCount the amount of positions needed
+     * @return the found positions
+     */
+    protected List<PositionVector> collectStartPositions(int firstX, int lastX, int firstY, int lastY, int carCount) {
+        final List<PositionVector> startPositions = new ArrayList<>();
+        for (int x = firstX; x <= lastX && startPositions.size() < carCount; x++) {
+            for (int y = firstY; y <= lastY && startPositions.size() < carCount; y++) {
+                if (getSpaceType(x, y) == TRACK) {
+                    startPositions.add(new PositionVector(x, y));
+                }
+            }
+        }
+        if (startPositions.size() < carCount) {
+            throw new IllegalArgumentException("Shape has no room for " + carCount + " cars");
+        }
+        return startPositions;
+    }
+
+    /**
+     * Deterministic pseudo random number for a position, derived from the seed.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return a number between 0 (inclusive) and 100 (exclusive)
+     */
+    protected int getRandomPercentage(int x, int y) {
+        long hash = seed ^ (x * 0x9E3779B97F4A7C15L) ^ (y * 0xC2B2AE3D27D4EB4FL);
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash ^= hash >>> 31;
+        return Math.floorMod(hash, 100);
+    }
+
+    protected void requireMinimumSize(boolean condition, String shapeName) {
+        if (!condition) {
+            throw new IllegalArgumentException(shapeName + " of " + width + "x" + height + " with corridor width " + corridorWidth + " is too small");
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getCorridorWidth() {
+        return corridorWidth;
+    }
+
+    /**
+     * Elliptic ring. The finish line crosses the lower half of the ring, cars start right behind it and have to
+     * drive one full lap.
+     */
+    public static class OvalTrackShape extends AbstractTrackShape {
+        private final int centerX;
+        private final int centerY;
+        private final long outerRadiusX;
+        private final long outerRadiusY;
+        private final long innerRadiusX;
+        private final long innerRadiusY;
+
+        /**
+         * Creates an oval track shape
+         *
+         * @param width         the width of the shape
+         * @param height        the height of the shape
+         * @param corridorWidth the width of the ring
+         * @param seed          the seed, not used by this shape
+         */
+        public OvalTrackShape(int width, int height, int corridorWidth, long seed) {
+            super(width, height, corridorWidth, seed);
+            centerX = width / 2;
+            centerY = height / 2;
+            outerRadiusX = centerX - 1;
+            outerRadiusY = centerY - 1;
+            innerRadiusX = outerRadiusX - corridorWidth;
+            innerRadiusY = outerRadiusY - corridorWidth;
+            requireMinimumSize(innerRadiusX >= 2 && innerRadiusY >= 2, "Oval");
+        }
+
+        @Override
+        public SpaceType getSpaceType(int x, int y) {
+            if (!isOnRing(x, y)) {
+                return WALL;
+            }
+            return x == centerX && y > centerY ? FINISH_RIGHT : TRACK;
+        }
+
+        @Override
+        public List<PositionVector> getStartPositions(int carCount) {
+            return collectStartPositions(centerX + 2, getWidth() - 2, centerY + 1, getHeight() - 2, carCount);
+        }
+
+        private boolean isOnRing(int x, int y) {
+            final long distanceX = x - centerX;
+            final long distanceY = y - centerY;
+            return isInsideEllipse(distanceX, distanceY, outerRadiusX, outerRadiusY)
+                && !isInsideEllipse(distanceX, distanceY, innerRadiusX, innerRadiusY);
+        }
+
+        private boolean isInsideEllipse(long distanceX, long distanceY, long radiusX, long radiusY) {
+            return distanceX * distanceX * radiusY * radiusY + distanceY * distanceY * radiusX * radiusX
+                <= radiusX * radiusX * radiusY * radiusY;
+        }
+    }
+
+    /**
+     * Perfect maze built with the binary tree algorithm: every cell opens either to the north or to the west,
+     * which only depends on the cell itself and therefore needs no memory at all.
+     * Cars start in the bottom right corner, the finish line is the only entrance of the top right cell.
+     */
+    public static class MazeTrackShape extends AbstractTrackShape {
+        private final int cellPitch;
+        private final int cellColumns;
+        private final int cellRows;
+
+        /**
+         * Creates a maze track shape
+         *
+         * @param width         the width of the shape
+         * @param height        the height of the shape
+         * @param corridorWidth the width of the maze corridors
+         * @param seed          the seed used for the maze layout
+         */
+        public MazeTrackShape(int width, int height, int corridorWidth, long seed) {
+            super(width, height, corridorWidth, seed);
+            cellPitch = corridorWidth + 1;
+            cellColumns = (width - 1) / cellPitch;
+            cellRows = (height - 1) / cellPitch;
+            requireMinimumSize(cellColumns >= 3 && cellRows >= 2, "Maze");
+        }
+
+        @Override
+        public SpaceType getSpaceType(int x, int y) {
+            if (x == 0 || y == 0) {
+                return WALL;
+            }
+            final int column = (x - 1) / cellPitch;
+            final int row = (y - 1) / cellPitch;
+            if (column >= cellColumns || row >= cellRows) {
+                return WALL;
+            }
+            final boolean isWallColumn = (x - 1) % cellPitch == getCorridorWidth();
+            final boolean isWallRow = (y - 1) % cellPitch == getCorridorWidth();
+            if (!isWallColumn && !isWallRow) {
+                return TRACK;
+            } else if (isWallColumn && !isWallRow) {
+                return getSpaceTypeBetweenColumns(column, row);
+            } else if (!isWallColumn && row + 1 < cellRows && opensNorth(column, row + 1)) {
+                return TRACK;
+            }
+            return WALL;
+        }
+
+        @Override
+        public List<PositionVector> getStartPositions(int carCount) {
+            final int lastCellX = 1 + (cellColumns - 1) * cellPitch;
+            final int lastCellY = 1 + (cellRows - 1) * cellPitch;
+            return collectStartPositions(lastCellX, lastCellX + getCorridorWidth() - 1,
+                lastCellY, lastCellY + getCorridorWidth() - 1, carCount);
+        }
+
+        private SpaceType getSpaceTypeBetweenColumns(int column, int row) {
+            final int eastColumn = column + 1;
+            if (eastColumn >= cellColumns || opensNorth(eastColumn, row)) {
+                return WALL;
+            }
+            return row == 0 && eastColumn == cellColumns - 1 ? FINISH_RIGHT : TRACK;
+        }
+
+        private boolean opensNorth(int column, int row) {
+            if (row == 0) {
+                return false;
+            } else if (column == 0) {
+                return true;
+            } else if (column == cellColumns - 1 && row == 1) {
+                // keeps the top right cell a dead end which is only reachable through the finish line
+                return false;
+            }
+            return getRandomPercentage(column, row) < 50;
+        }
+    }
+
+    /**
+     * Rectangular spiral. Nested rings are connected by gaps on their top side and every ring is blocked right
+     * next to its entry, so cars have to drive each ring clockwise until they reach the finish line in the center.
+     */
+    public static class SpiralTrackShape extends AbstractTrackShape {
+        private final int ringPitch;
+        private final int ringCount;
+        private final int outerGapX;
+
+        /**
+         * Creates a spiral track shape
+         *
+         * @param width         the width of the shape
+         * @param height        the height of the shape
+         * @param corridorWidth the width of the spiral corridor
+         * @param seed          the seed, not used by this shape
+         */
+        public SpiralTrackShape(int width, int height, int corridorWidth, long seed) {
+            super(width, height, corridorWidth, seed);
+            ringPitch = corridorWidth + 1;
+            outerGapX = width - 1 - corridorWidth - ringPitch;
+            ringCount = Math.min((width - 2 - corridorWidth - ringPitch) / (2 * ringPitch),
+                (height - 1 - corridorWidth) / (2 * ringPitch));
+            requireMinimumSize(ringCount >= 1, "Spiral");
+        }
+
+        @Override
+        public SpaceType getSpaceType(int x, int y) {
+            final int ringDistance = Math.min(Math.min(x, y), Math.min(getWidth() - 1 - x, getHeight() - 1 - y));
+            final int innermostWall = ringCount * ringPitch;
+            if (ringDistance == 0) {
+                return WALL;
+            } else if (ringDistance <= innermostWall && ringDistance % ringPitch == 0) {
+                final int gapX = getGapX(ringDistance / ringPitch);
+                return y == ringDistance && x >= gapX && x < gapX + getCorridorWidth() ? TRACK : WALL;
+            } else if (ringDistance < innermostWall) {
+                final int ring = (ringDistance - 1) / ringPitch;
+                final boolean isTopSide = y > ring * ringPitch && y <= ring * ringPitch + getCorridorWidth();
+                return isTopSide && x == getGapX(ring) - 1 ? WALL : TRACK;
+            }
+            return x == getGapX(ringCount) + getCorridorWidth() ? FINISH_RIGHT : TRACK;
+        }
+
+        @Override
+        public List<PositionVector> getStartPositions(int carCount) {
+            return collectStartPositions(outerGapX, getWidth() - 2, 1, getCorridorWidth(), carCount);
+        }
+
+        private int getGapX(int ring) {
+            return outerGapX - ring * ringPitch;
+        }
+    }
+
+    /**
+     * Wide open field scattered with single rocks. Rocks never touch each other, so the field can always be crossed.
+     * Cars start at the left border, the finish line spans the whole field near the right border.
+     */
+    public static class OpenFieldTrackShape extends AbstractTrackShape {
+        private static final int ROCK_SPACING = 3;
+        private static final int ROCK_PERCENTAGE = 20;
+        private final int finishLineX;
+
+        /**
+         * Creates an open field track shape
+         *
+         * @param width         the width of the shape
+         * @param height        the height of the shape
+         * @param corridorWidth not used by this shape
+         * @param seed          the seed used to scatter the rocks
+         */
+        public OpenFieldTrackShape(int width, int height, int corridorWidth, long seed) {
+            super(width, height, corridorWidth, seed);
+            finishLineX = width - 3;
+            requireMinimumSize(width >= 8 && height >= 3, "Open field");
+        }
+
+        @Override
+        public SpaceType getSpaceType(int x, int y) {
+            if (x == 0 || y == 0 || x == getWidth() - 1 || y == getHeight() - 1) {
+                return WALL;
+            } else if (x == finishLineX) {
+                return FINISH_RIGHT;
+            } else if (isRock(x, y)) {
+                return WALL;
+            }
+            return TRACK;
+        }
+
+        @Override
+        public List<PositionVector> getStartPositions(int carCount) {
+            return collectStartPositions(1, finishLineX - 1, 1, getHeight() - 2, carCount);
+        }
+
+        private boolean isRock(int x, int y) {
+            return x > ROCK_SPACING && x < finishLineX - 1 && x % ROCK_SPACING == 0 && y % ROCK_SPACING == 0
+                && getRandomPercentage(x, y) < ROCK_PERCENTAGE;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package ch.zhaw.pm2.racetrack.game.track.generator;
+
+import ch.zhaw.pm2.racetrack.game.track.generator.AbstractTrackShape.MazeTrackShape;
+import ch.zhaw.pm2.racetrack.game.track.generator.AbstractTrackShape.OpenFieldTrackShape;
+import ch.zhaw.pm2.racetrack.game.track.generator.AbstractTrackShape.OvalTrackShape;
+import ch.zhaw.pm2.racetrack.game.track.generator.AbstractTrackShape.SpiralTrackShape;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.MAX_CARS;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Seeded procedural generator for track files in the format read by the {@link ch.zhaw.pm2.racetrack.game.track.TrackLoader}.
+ *
+ * <p>The generated track is streamed row by row, only a single row is kept in memory at a time.
+ * This allows to create tracks up to {@link #MAX_DIMENSION} x {@link #MAX_DIMENSION} spaces for load and
+ * pathfinding tests. The same configuration and seed always produce the same track.</p>
+ *
+ * @version 1.0.0
+ */
+public class TrackGenerator {
+    public static final int MAX_DIMENSION = 10_000;
+    private static final int MIN_CORRIDOR_WIDTH = 2;
+    private static final int MIN_CARS = 2;
+    private static final char FIRST_CAR_ID = 'a';
+
+    private final TrackShapeType shapeType;
+    private final long seed;
+    private int width = 80;
+    private int height = 40;
+    private int corridorWidth = 3;
+    private int carCount = MIN_CARS;
+    private SpaceType finishLineOrientation = FINISH_RIGHT;
+
+    /**
+     * Creates a track generator with default dimensions, two cars and a finish line to be crossed to the right.
+     *
+     * @param shapeType the shape of the generated track
+     * @param seed      the seed used for every random decision
+     */
+    public TrackGenerator(TrackShapeType shapeType, long seed) {
+        this.shapeType = Objects.requireNonNull(shapeType);
+        this.seed = seed;
+    }
+
+    /**
+     * Writes the generated track into the given file.
+     *
+     * @param trackFile the file to write, an existing file is overwritten
+     * @throws IOException if the file could not be written
+     */
+    public void writeTrackFile(File trackFile) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(trackFile), UTF_8))) {
+            writeTrack(writer);
+        }
+    }
+
+    /**
+     * Writes the generated track row by row into the given writer. The writer is neither flushed nor closed.
+     *
+     * @param writer the writer to write the track rows to
+     * @throws IOException if writing failed
+     */
+    public void writeTrack(Writer writer) throws IOException {
+        final AbstractTrackShape shape = createShape();
+        final List<PositionVector> carPositions = getCarPositions(shape);
+        final char[] row = new char[width];
+        for (int y = 0; y < height; y++) {
+            fillRow(shape, carPositions, row, y);
+            writer.write(row);
+            writer.write(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Generates the track in memory. Only meant for small tracks, use {@link #writeTrack(Writer)} for huge ones.
+     *
+     * @return the rows of the generated track
+     */
+    public List<String> generateTrackRows() {
+        final AbstractTrackShape shape = createShape();
+        final List<PositionVector> carPositions = getCarPositions(shape);
+        final List<String> trackRows = new ArrayList<>(height);
+        final char[] row = new char[width];
+        for (int y = 0; y < height; y++) {
+            fillRow(shape, carPositions, row, y);
+            trackRows.add(new String(row));
+        }
+        return trackRows;
+    }
+
+    private void fillRow(AbstractTrackShape shape, List<PositionVector> carPositions, char[] row, int y) {
+        for (int x = 0; x < width; x++) {
+            row[x] = isBorder(x, y) ? WALL.getValue() : toOrientedCharacter(shape.getSpaceType(toCanonicalX(x, y), toCanonicalY(x, y)));
+        }
+        for (int carIndex = 0; carIndex < carPositions.size(); carIndex++) {
+            final PositionVector carPosition = carPositions.get(carIndex);
+            if (carPosition.getY() == y) {
+                row[carPosition.getX()] = (char) (FIRST_CAR_ID + carIndex);
+            }
+        }
+    }
+
+    private AbstractTrackShape createShape() {
+        final int canonicalWidth = isTransposed() ? height : width;
+        final int canonicalHeight = isTransposed() ? width : height;
+        return switch (shapeType) {
+            case OVAL -> new OvalTrackShape(canonicalWidth, canonicalHeight, corridorWidth, seed);
+            case MAZE -> new MazeTrackShape(canonicalWidth, canonicalHeight, corridorWidth, seed);
+            case SPIRAL -> new SpiralTrackShape(canonicalWidth, canonicalHeight, corridorWidth, seed);
+            case OPEN_FIELD -> new OpenFieldTrackShape(canonicalWidth, canonicalHeight, corridorWidth, seed);
+        };
+    }
+
+    private List<PositionVector> getCarPositions(AbstractTrackShape shape) {
+        final List<PositionVector> carPositions = new ArrayList<>(carCount);
+        for (PositionVector canonicalPosition : shape.getStartPositions(carCount)) {
+            carPositions.add(toOrientedPosition(canonicalPosition));
+        }
+        return carPositions;
+    }
+
+    private boolean isBorder(int x, int y) {
+        return x == 0 || y == 0 || x == width - 1 || y == height - 1;
+    }
+
+    private boolean isTransposed() {
+        return finishLineOrientation == FINISH_UP || finishLineOrientation == FINISH_DOWN;
+    }
+
+    private int toCanonicalX(int x, int y) {
+        return switch (finishLineOrientation) {
+            case FINISH_LEFT -> width - 1 - x;
+            case FINISH_DOWN -> y;
+            case FINISH_UP -> height - 1 - y;
+            default -> x;
+        };
+    }
+
+    private int toCanonicalY(int x, int y) {
+        return isTransposed() ? x : y;
+    }
+
+    private PositionVector toOrientedPosition(PositionVector canonicalPosition) {
+        final int canonicalX = canonicalPosition.getX();
+        final int canonicalY = canonicalPosition.getY();
+        return switch (finishLineOrientation) {
+            case FINISH_LEFT -> new PositionVector(width - 1 - canonicalX, canonicalY);
+            case FINISH_DOWN -> new PositionVector(canonicalY, canonicalX);
+            case FINISH_UP -> new PositionVector(canonicalY, height - 1 - canonicalX);
+            default -> new PositionVector(canonicalX, canonicalY);
+        };
+    }
+
+    private char toOrientedCharacter(SpaceType canonicalSpaceType) {
+        return canonicalSpaceType == FINISH_RIGHT ? finishLineOrientation.getValue() : canonicalSpaceType.getValue();
+    }
+
+    /**
+     * Sets the dimensions of the generated track.
+     *
+     * @param width  the amount of columns, at most {@link #MAX_DIMENSION}
+     * @param height the amount of rows, at most {@link #MAX_DIMENSION}
+     */
+    public void setDimensions(int width, int height) {
+        if (width < 1 || height < 1 || width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new IllegalArgumentException("Dimensions must be between 1 and " + MAX_DIMENSION);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Sets the width of corridors. Ignored by shapes without corridors.
+     *
+     * @param corridorWidth the width of the corridors
+     */
+    public void setCorridorWidth(int corridorWidth) {
+        if (corridorWidth < MIN_CORRIDOR_WIDTH) {
+            throw new IllegalArgumentException("Corridor width must be at least " + MIN_CORRIDOR_WIDTH);
+        }
+        this.corridorWidth = corridorWidth;
+    }
+
+    /**
+     * Sets the amount of cars placed on the track.
+     *
+     * @param carCount the amount of cars
+     */
+    public void setCarCount(int carCount) {
+        if (carCount < MIN_CARS || carCount > MAX_CARS) {
+            throw new IllegalArgumentException("Car count must be between " + MIN_CARS + " and " + MAX_CARS);
+        }
+        this.carCount = carCount;
+    }
+
+    /**
+     * Sets the direction in which the finish line has to be crossed.
+     *
+     * @param finishLineOrientation one of the finish space types
+     */
+    public void setFinishLineOrientation(SpaceType finishLineOrientation) {
+        if (finishLineOrientation == null || finishLineOrientation == WALL || finishLineOrientation == TRACK) {
+            throw new IllegalArgumentException("Finish line orientation must be a finish space type");
+        }
+        this.finishLineOrientation = finishLineOrientation;
+    }
+
+    public TrackShapeType getShapeType() {
+        return shapeType;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
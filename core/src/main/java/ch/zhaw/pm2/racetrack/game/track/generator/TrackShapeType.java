@@ -0,0 +1,25 @@
+package ch.zhaw.pm2.racetrack.game.track.generator;
+
+/**
+ * Shapes the {@link TrackGenerator} is able to create.
+ *
+ * @version 1.0.0
+ */
+public enum TrackShapeType {
+    /**
+     * Elliptic ring, the finish line is crossed after one full lap.
+     */
+    OVAL,
+    /**
+     * Perfect maze with a single route from the start cell to the finish line.
+     */
+    MAZE,
+    /**
+     * Rectangular spiral winding inwards, the finish line sits in the center.
+     */
+    SPIRAL,
+    /**
+     * Wide open field with scattered rocks, the finish line spans the whole field.
+     */
+    OPEN_FIELD
+}
@@ -0,0 +1,81 @@
+package ch.zhaw.pm2.racetrack.game.util;
+
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts directions from and to their vectors, ordinals and names in constant time.
+ *
+ * <p>The directions are looked up in tables built once, instead of looping over {@link Direction#values()}, which
+ * creates a new array on every call. Every conversion of directions in loaders and strategies goes through here.</p>
+ *
+ * @version 1.0.0
+ */
+public final class DirectionCodec {
+    /**
+     * Amount of directions, the ordinals range from 0 to this amount exclusive.
+     */
+    public static final int DIRECTION_COUNT = Direction.values().length;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Direction[][] DIRECTIONS_BY_VECTOR = new Direction[3][3];
+    private static final Map<String, Direction> DIRECTIONS_BY_NAME = new HashMap<>();
+
+    static {
+        for (Direction direction : DIRECTIONS) {
+            DIRECTIONS_BY_VECTOR[direction.getVector().getY() + 1][direction.getVector().getX() + 1] = direction;
+            DIRECTIONS_BY_NAME.put(direction.name(), direction);
+        }
+    }
+
+    private DirectionCodec() {
+    }
+
+    /**
+     * Returns the direction with the given ordinal.
+     *
+     * @param ordinal the ordinal of the direction
+     * @return the direction, or null if there is no direction with this ordinal
+     */
+    public static Direction fromOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < DIRECTION_COUNT ? DIRECTIONS[ordinal] : null;
+    }
+
+    /**
+     * Returns the direction with the given vector.
+     *
+     * @param x the horizontal component, between -1 and 1
+     * @param y the vertical component, between -1 and 1
+     * @return the direction, or null if the vector is no direction
+     */
+    public static Direction fromVector(int x, int y) {
+        if (x < -1 || x > 1 || y < -1 || y > 1) {
+            return null;
+        }
+        return DIRECTIONS_BY_VECTOR[y + 1][x + 1];
+    }
+
+    /**
+     * Returns the direction pointing the same way as the given vector on each axis.
+     * For example (3, -2) results in {@link Direction#UP_RIGHT}.
+     *
+     * @param x the horizontal component of any length
+     * @param y the vertical component of any length
+     * @return the direction with the signs of the components
+     */
+    public static Direction fromSigns(int x, int y) {
+        return DIRECTIONS_BY_VECTOR[Integer.signum(y) + 1][Integer.signum(x) + 1];
+    }
+
+    /**
+     * Returns the direction with the given name.
+     *
+     * @param name the exact name of the direction
+     * @return the direction, or null if there is no direction with this name
+     */
+    public static Direction fromName(String name) {
+        return DIRECTIONS_BY_NAME.get(name);
+    }
+}
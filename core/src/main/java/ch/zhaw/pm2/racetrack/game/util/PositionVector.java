@@ -38,10 +38,7 @@ public final class PositionVector {
          * @return a direction object according to the user selection
          */
         public static Direction convertVectorSelectionToDirection(final int vectorSelection) {
-            if (vectorSelection < values().length && vectorSelection >= 0) {
-                return values()[vectorSelection];
-            }
-            return null;
+            return DirectionCodec.fromOrdinal(vectorSelection);
         }
 
         public PositionVector getVector() {
@@ -55,12 +52,8 @@ public final class PositionVector {
          * @return a direction object matching the given position based on their vector coordinates
          */
         public static Direction translateToDirection(PositionVector position) {
-            for (Direction direction : values()) {
-                if (position.equals(direction.getVector())) {
-                    return direction;
-                }
-            }
-            return NONE;
+            final Direction direction = DirectionCodec.fromVector(position.getX(), position.getY());
+            return direction == null ? NONE : direction;
         }
     }
 
@@ -0,0 +1,136 @@
+package ch.zhaw.pm2.racetrack.game.warmup;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.strategy.MoveStrategy;
+import ch.zhaw.pm2.racetrack.game.strategy.PathFinderMoveStrategy;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Warms up the engine before a race, so the first turns of the bots are not played by interpreted or barely compiled
+ * code. Plays rounds of synthetic races on forks of the game: every car searches its path with a {@link
+ * PathFinderMoveStrategy} and plays its turns until a car wins or the turn limit of a round is reached. The forks are
+ * thrown away, the game itself is left untouched.
+ * <p>
+ * The engine counts as warm once the durations of the latest rounds stabilized, that is they differ by no more than
+ * a tolerance from each other. The warm up ends earlier, without the engine being warm, if the time budget is used
+ * up or the maximal amount of rounds is played. At least one round is always played.
+ *
+ * @version 1.0.0
+ */
+public class EngineWarmUp {
+    /**
+     * Amount of rounds played at most, if the durations of the rounds do not stabilize before.
+     */
+    public static final int DEFAULT_MAX_ROUNDS = 500;
+
+    /**
+     * Amount of turns played at most in a single round, keeping rounds short on large tracks.
+     */
+    static final int MAX_TURNS_PER_ROUND = 100;
+
+    /**
+     * Amount of latest rounds whose durations have to be stable for the engine to count as warm.
+     */
+    static final int STABLE_ROUNDS = 5;
+
+    /**
+     * Largest difference between the durations of the stable rounds, relative to the shortest of them.
+     */
+    static final double STABLE_TOLERANCE = 0.1;
+
+    private final Game game;
+    private final Duration timeBudget;
+    private final int maxRounds;
+
+    /**
+     * Creates a warm up playing at most {@link #DEFAULT_MAX_ROUNDS} rounds.
+     *
+     * @param game       the game whose track is raced on, it is not changed by the warm up
+     * @param timeBudget the time the warm up may take, the round running when it is used up is finished
+     */
+    public EngineWarmUp(Game game, Duration timeBudget) {
+        this(game, timeBudget, DEFAULT_MAX_ROUNDS);
+    }
+
+    /**
+     * Creates a warm up.
+     *
+     * @param game       the game whose track is raced on, it is not changed by the warm up
+     * @param timeBudget the time the warm up may take, the round running when it is used up is finished
+     * @param maxRounds  the amount of rounds played at most
+     * @throws IllegalArgumentException if the time budget is negative or the maximal amount of rounds is not positive
+     */
+    public EngineWarmUp(Game game, Duration timeBudget, int maxRounds) {
+        Objects.requireNonNull(game);
+        Objects.requireNonNull(timeBudget);
+        if (timeBudget.isNegative()) {
+            throw new IllegalArgumentException("Time budget must not be negative");
+        }
+        if (maxRounds < 1) {
+            throw new IllegalArgumentException("At least one round has to be played");
+        }
+        this.game = game;
+        this.timeBudget = timeBudget;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Plays rounds until the engine is warm, the time budget is used up or the maximal amount of rounds is played.
+     *
+     * @return the report telling whether the engine is warm
+     */
+    public WarmUpReport run() {
+        final long budgetNanos = timeBudget.toNanos();
+        final long[] latestRoundNanos = new long[STABLE_ROUNDS];
+        final long start = System.nanoTime();
+        long firstRoundNanos = 0;
+        long roundNanos = 0;
+        int rounds = 0;
+        boolean warm = false;
+        while (!warm && rounds < maxRounds && (rounds == 0 || System.nanoTime() - start < budgetNanos)) {
+            roundNanos = playRound();
+            if (rounds == 0) {
+                firstRoundNanos = roundNanos;
+            }
+            latestRoundNanos[rounds % STABLE_ROUNDS] = roundNanos;
+            rounds++;
+            warm = rounds >= STABLE_ROUNDS && isStable(latestRoundNanos);
+        }
+        return new WarmUpReport(warm, rounds, System.nanoTime() - start, firstRoundNanos, roundNanos);
+    }
+
+    /**
+     * Plays a synthetic race on a fork of the game. The strategy of a car is created on its first turn, as the path
+     * finder searches the path of the car whose turn it is.
+     *
+     * @return the duration of the round in nanoseconds
+     */
+    private long playRound() {
+        final long roundStart = System.nanoTime();
+        final Game fork = game.fork();
+        final MoveStrategy[] strategies = new MoveStrategy[fork.getTrack().getCarCount()];
+        for (int turn = 0; turn < MAX_TURNS_PER_ROUND && !fork.hasWinner(); turn++) {
+            final int carIndex = fork.getCurrentCarIndex();
+            if (strategies[carIndex] == null) {
+                strategies[carIndex] = new PathFinderMoveStrategy(fork);
+            }
+            fork.doCarTurn(strategies[carIndex].nextMove());
+            if (!fork.hasWinner()) {
+                fork.switchToNextActiveCar();
+            }
+        }
+        return System.nanoTime() - roundStart;
+    }
+
+    private static boolean isStable(long[] roundNanos) {
+        long shortest = Long.MAX_VALUE;
+        long longest = 0;
+        for (long nanos : roundNanos) {
+            shortest = Math.min(shortest, nanos);
+            longest = Math.max(longest, nanos);
+        }
+        return longest - shortest <= shortest * STABLE_TOLERANCE;
+    }
+}
@@ -0,0 +1,66 @@
+package ch.zhaw.pm2.racetrack.game.warmup;
+
+/**
+ * The outcome of an {@link EngineWarmUp}, telling whether the engine is warm and how long it took.
+ *
+ * @version 1.0.0
+ */
+public class WarmUpReport {
+    private final boolean warm;
+    private final int rounds;
+    private final long elapsedNanos;
+    private final long firstRoundNanos;
+    private final long lastRoundNanos;
+
+    /**
+     * Package private, reports are only created by the {@link EngineWarmUp}.
+     */
+    WarmUpReport(boolean warm, int rounds, long elapsedNanos, long firstRoundNanos, long lastRoundNanos) {
+        this.warm = warm;
+        this.rounds = rounds;
+        this.elapsedNanos = elapsedNanos;
+        this.firstRoundNanos = firstRoundNanos;
+        this.lastRoundNanos = lastRoundNanos;
+    }
+
+    /**
+     * @return true if the durations of the latest rounds stabilized before the warm up ended
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * @return the amount of rounds played
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return the time the whole warm up took in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the duration of the first round in nanoseconds, played by the cold engine
+     */
+    public long getFirstRoundNanos() {
+        return firstRoundNanos;
+    }
+
+    /**
+     * @return the duration of the last round in nanoseconds
+     */
+    public long getLastRoundNanos() {
+        return lastRoundNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "WarmUpReport{warm=" + warm + ", rounds=" + rounds + ", elapsedNanos=" + elapsedNanos
+            + ", firstRoundNanos=" + firstRoundNanos + ", lastRoundNanos=" + lastRoundNanos + "}";
+    }
+}
@@ -0,0 +1,195 @@
+package ch.zhaw.pm2.racetrack.server;
+
+import ch.zhaw.pm2.racetrack.Config;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.track.TrackCache;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * Hosts any amount of concurrent races for clients connecting over the {@link ServerProtocol}.
+ *
+ * <p>Every connection is served by a {@link GameSession} on a thread of its own. On Java 21 and newer the sessions
+ * run on virtual threads, so thousands of mostly waiting sessions cost little more than their memory. The executor
+ * for virtual threads is looked up by reflection, as the game is built for Java 17, where the sessions fall back to
+ * a pool of platform threads.</p>
+ *
+ * <p>Sessions waiting for their client longer than the idle timeout are closed, sessions playing the turns of bots
+ * are never idle. The tracks are loaded once through the {@link TrackCache} and every race gets a
+ * {@link Track#fork() fork} of the loaded track. The server only listens on the loopback address, as it is meant
+ * for local matches.</p>
+ *
+ * @version 1.0.0
+ */
+public class GameServer implements Closeable {
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+    private static final long MIN_EVICTION_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int CONNECTION_BACKLOG = 1024;
+
+    private final Config config;
+    private final Duration idleTimeout;
+    private final ServerSocket serverSocket;
+    private final SessionRegistry sessionRegistry = new SessionRegistry();
+    private final TrackCache trackCache;
+    private final Map<String, Track> loadedTracks = new ConcurrentHashMap<>();
+    private final ExecutorService sessionExecutor;
+    private final boolean virtualThreads;
+    private final ScheduledExecutorService evictionExecutor;
+    private final Thread acceptThread;
+
+    /**
+     * Starts a server on the loopback address.
+     *
+     * @param config      the config naming the track directory and the track cache directory
+     * @param port        the port to listen on, 0 for any free port
+     * @param idleTimeout the longest time a client may stay silent before its session is closed
+     * @throws IOException              if the port could not be opened
+     * @throws IllegalArgumentException if the idle timeout is not positive
+     */
+    public GameServer(Config config, int port, Duration idleTimeout) throws IOException {
+        this.config = Objects.requireNonNull(config);
+        this.idleTimeout = Objects.requireNonNull(idleTimeout);
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        trackCache = new TrackCache(config.getTrackCacheDirectory());
+        final ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+        virtualThreads = virtualThreadExecutor != null;
+        sessionExecutor = virtualThreads ? virtualThreadExecutor : Executors.newCachedThreadPool(runnable -> createDaemonThread(runnable, "game-session"));
+        serverSocket = new ServerSocket(port, CONNECTION_BACKLOG, InetAddress.getLoopbackAddress());
+        evictionExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> createDaemonThread(runnable, "game-session-eviction"));
+        final long evictionInterval = Math.max(MIN_EVICTION_INTERVAL_NANOS, idleTimeout.toNanos() / 2);
+        evictionExecutor.scheduleWithFixedDelay(() -> sessionRegistry.evictIdleSessions(idleTimeout.toNanos()),
+            evictionInterval, evictionInterval, TimeUnit.NANOSECONDS);
+        acceptThread = createDaemonThread(this::acceptConnections, "game-server-accept");
+        acceptThread.start();
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY).invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Thread createDaemonThread(Runnable runnable, String name) {
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Checks whether cars with the given strategy can race on the server. Cars of the client are {@link
+     * StrategyType#USER USER} cars, the server drives {@link StrategyType#DO_NOT_MOVE DO_NOT_MOVE} and
+     * {@link StrategyType#PATH_FINDER PATH_FINDER} bots. The other bots need files of the client.
+     *
+     * @param strategyType the strategy of a car
+     * @return true if the server can host a car with this strategy
+     */
+    public static boolean isSupportedStrategy(StrategyType strategyType) {
+        return switch (strategyType) {
+            case USER, DO_NOT_MOVE, PATH_FINDER -> true;
+            case MOVE_LIST, PATH_FOLLOWER -> false;
+        };
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                final GameSession session = new GameSession(sessionRegistry.createSessionId(), socket, this);
+                sessionRegistry.register(session);
+                try {
+                    sessionExecutor.execute(session);
+                } catch (RejectedExecutionException e) {
+                    session.close();
+                    sessionRegistry.unregister(session);
+                }
+            } catch (SocketException e) {
+                // the server socket was closed
+            } catch (IOException e) {
+                // the connection failed before it was accepted, the next one may work
+            }
+        }
+    }
+
+    /**
+     * Creates a track for a new race.
+     *
+     * @param trackName the name of a file in the track directory
+     * @return a new track with the cars at their start positions
+     * @throws IOException if there is no valid track file with this name
+     */
+    Track createTrack(String trackName) throws IOException {
+        Track loadedTrack = loadedTracks.get(trackName);
+        if (loadedTrack == null) {
+            final File trackFile = new File(config.getTrackDirectory(), trackName);
+            if (!trackFile.getName().equals(trackName)) {
+                throw new IOException("Track name " + trackName + " is no file name");
+            }
+            loadedTrack = trackCache.loadTrack(trackFile);
+            final Track concurrentlyLoadedTrack = loadedTracks.putIfAbsent(trackName, loadedTrack);
+            if (concurrentlyLoadedTrack != null) {
+                loadedTrack = concurrentlyLoadedTrack;
+            }
+        }
+        return loadedTrack.fork();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public SessionRegistry getSessionRegistry() {
+        return sessionRegistry;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Tells whether the sessions run on virtual threads.
+     *
+     * @return true on Java 21 and newer
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Stops accepting connections and closes all sessions.
+     *
+     * @throws IOException if the server socket could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        evictionExecutor.shutdownNow();
+        sessionRegistry.closeAll();
+        sessionExecutor.shutdownNow();
+        try {
+            acceptThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
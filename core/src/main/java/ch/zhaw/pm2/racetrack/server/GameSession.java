@@ -0,0 +1,258 @@
+package ch.zhaw.pm2.racetrack.server;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.metrics.GameMetrics;
+import ch.zhaw.pm2.racetrack.game.strategy.DoNotMoveStrategy;
+import ch.zhaw.pm2.racetrack.game.strategy.MoveStrategy;
+import ch.zhaw.pm2.racetrack.game.strategy.PathFinderMoveStrategy;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
+
+import java.io.*;
+import java.net.Socket;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.USER;
+import static ch.zhaw.pm2.racetrack.server.ServerProtocol.*;
+
+/**
+ * A client connected to the {@link GameServer}, playing one race after the other over the {@link ServerProtocol}.
+ *
+ * <p>Each session runs on a thread of its own and blocks while waiting for its client, so a session costs nothing
+ * but its thread while the client is thinking. Cars with the {@link StrategyType#USER USER} strategy are driven by
+ * the client, the other cars by the server. The bots are created on their car's first turn, as the path finder
+ * plans for the car whose turn it is.</p>
+ *
+ * @version 1.0.0
+ */
+public class GameSession implements Runnable {
+    /**
+     * Most turns of all cars in a single race, ending races of cars which never reach the finish line.
+     */
+    public static final int MAX_TURNS_PER_RACE = 10_000;
+
+    private static final StrategyType[] STRATEGY_TYPES = StrategyType.values();
+
+    private final int id;
+    private final Socket socket;
+    private final GameServer server;
+    private volatile boolean waitingForClient;
+    private volatile long waitingSinceNanos;
+
+    /**
+     * Creates a session for a connected client.
+     *
+     * @param id     the id of the session
+     * @param socket the connection to the client
+     * @param server the server hosting the session
+     */
+    GameSession(int id, Socket socket, GameServer server) {
+        this.id = id;
+        this.socket = socket;
+        this.server = server;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns how long the session has been waiting for its client to send something. A session playing the turns
+     * of bots or sending to its client is not idle, however long the race takes.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return the idle time in nanoseconds, 0 if the session is not waiting for its client
+     */
+    public long getIdleNanos(long now) {
+        return waitingForClient ? now - waitingSinceNanos : 0;
+    }
+
+    @Override
+    public void run() {
+        try (socket;
+             DataInputStream inputStream = new DataInputStream(new BufferedInputStream(
+                 new ClientInputStream(socket.getInputStream())));
+             DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            int messageType = inputStream.read();
+            while (messageType == START) {
+                if (!playRace(inputStream, outputStream)) {
+                    return;
+                }
+                messageType = inputStream.read();
+            }
+            if (messageType != QUIT && messageType != -1) {
+                sendError(outputStream, "Unexpected message " + messageType);
+            }
+        } catch (IOException e) {
+            // the client left or the session was evicted, nothing to tell anyone
+        } finally {
+            server.getSessionRegistry().unregister(this);
+        }
+    }
+
+    /**
+     * Closes the connection, which ends the session as soon as its thread notices.
+     */
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // the connection is gone either way
+        }
+    }
+
+    /**
+     * Plays a race started by the client.
+     *
+     * @return false if the client left during the race
+     */
+    private boolean playRace(DataInputStream inputStream, DataOutputStream outputStream) throws IOException {
+        final String trackName = inputStream.readUTF();
+        final StrategyType[] strategyTypes = new StrategyType[inputStream.readUnsignedByte()];
+        for (int car = 0; car < strategyTypes.length; car++) {
+            final int strategy = inputStream.readUnsignedByte();
+            strategyTypes[car] = strategy < STRATEGY_TYPES.length ? STRATEGY_TYPES[strategy] : null;
+        }
+        final Track track;
+        try {
+            track = server.createTrack(trackName);
+        } catch (IOException e) {
+            sendError(outputStream, "Track " + trackName + " could not be loaded");
+            return true;
+        }
+        final Game game = new Game(track, GameMetrics.DISABLED);
+        final MoveStrategy[] strategies = new MoveStrategy[track.getCarCount()];
+        final StrategyType[] carStrategyTypes = new StrategyType[track.getCarCount()];
+        for (int car = 0; car < carStrategyTypes.length; car++) {
+            carStrategyTypes[car] = car < strategyTypes.length ? strategyTypes[car] : USER;
+            if (carStrategyTypes[car] == null || !GameServer.isSupportedStrategy(carStrategyTypes[car])) {
+                sendError(outputStream, "Strategy of car " + car + " is not supported by the server");
+                return true;
+            }
+        }
+        sendStarted(outputStream, track);
+        int turns = 0;
+        while (!game.hasWinner() && turns < MAX_TURNS_PER_RACE) {
+            final int carIndex = game.getCurrentCarIndex();
+            final Direction direction;
+            if (carStrategyTypes[carIndex] == USER) {
+                outputStream.writeByte(YOUR_TURN);
+                outputStream.writeByte(carIndex);
+                outputStream.flush();
+                direction = readMove(inputStream, outputStream);
+                if (direction == null) {
+                    return false;
+                }
+            } else {
+                if (strategies[carIndex] == null) {
+                    strategies[carIndex] = createBot(carStrategyTypes[carIndex], game);
+                }
+                direction = strategies[carIndex].nextMove();
+            }
+            game.doCarTurn(direction);
+            sendMoved(outputStream, carIndex, direction, track.getCar(carIndex));
+            if (!game.hasWinner()) {
+                game.switchToNextActiveCar();
+            }
+            turns++;
+        }
+        outputStream.writeByte(RACE_OVER);
+        outputStream.writeByte(game.hasWinner() ? game.getWinner() : NO_WINNER);
+        outputStream.flush();
+        return true;
+    }
+
+    private static MoveStrategy createBot(StrategyType strategyType, Game game) {
+        return switch (strategyType) {
+            case PATH_FINDER -> new PathFinderMoveStrategy(game);
+            default -> new DoNotMoveStrategy();
+        };
+    }
+
+    /**
+     * Reads the move of a remote car.
+     *
+     * @return the acceleration, or null if the client quit or sent an invalid message
+     */
+    private Direction readMove(DataInputStream inputStream, DataOutputStream outputStream) throws IOException {
+        final int messageType = inputStream.read();
+        if (messageType != MOVE) {
+            if (messageType != QUIT && messageType != -1) {
+                sendError(outputStream, "Expected a move instead of message " + messageType);
+            }
+            return null;
+        }
+        final Direction direction = DirectionCodec.fromOrdinal(inputStream.readUnsignedByte());
+        if (direction == null) {
+            sendError(outputStream, "Invalid direction");
+        }
+        return direction;
+    }
+
+    private void sendStarted(DataOutputStream outputStream, Track track) throws IOException {
+        outputStream.writeByte(STARTED);
+        outputStream.writeInt(id);
+        outputStream.writeShort(track.getWidth());
+        outputStream.writeShort(track.getHeight());
+        outputStream.writeByte(track.getCarCount());
+        for (Car car : track.getCarsOnTrack()) {
+            outputStream.writeChar(car.getId());
+            outputStream.writeShort(car.getPosition().getX());
+            outputStream.writeShort(car.getPosition().getY());
+        }
+    }
+
+    private static void sendMoved(DataOutputStream outputStream, int carIndex, Direction direction, Car car) throws IOException {
+        outputStream.writeByte(MOVED);
+        outputStream.writeByte(carIndex);
+        outputStream.writeByte(direction.ordinal());
+        outputStream.writeShort(car.getPosition().getX());
+        outputStream.writeShort(car.getPosition().getY());
+        outputStream.writeShort(car.getVelocity().getX());
+        outputStream.writeShort(car.getVelocity().getY());
+        outputStream.writeBoolean(car.isCrashed());
+    }
+
+    private static void sendError(DataOutputStream outputStream, String message) throws IOException {
+        outputStream.writeByte(ERROR);
+        outputStream.writeUTF(message);
+        outputStream.flush();
+    }
+
+    /**
+     * Marks the session as waiting for its client while a read from the connection blocks. Reads served from the
+     * buffer in front of this stream do not reach it, so only actual waits for the client count as idle time.
+     */
+    private class ClientInputStream extends FilterInputStream {
+        private ClientInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            startWaiting();
+            try {
+                return super.read();
+            } finally {
+                waitingForClient = false;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            startWaiting();
+            try {
+                return super.read(buffer, offset, length);
+            } finally {
+                waitingForClient = false;
+            }
+        }
+
+        private void startWaiting() {
+            waitingSinceNanos = System.nanoTime();
+            waitingForClient = true;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package ch.zhaw.pm2.racetrack.server;
+
+import ch.zhaw.pm2.racetrack.Config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * This Class contains the main method to start the game server, hosting the races of all local clients.
+ *
+ * @version 1.0.0
+ */
+public class RaceTrackServer {
+    private static final int DEFAULT_PORT = 4711;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    /**
+     * Starts the server and keeps it running until the process is stopped.
+     *
+     * @param args - optionally the port to listen on, {@value #DEFAULT_PORT} if not given
+     * @throws IOException if the port could not be opened
+     */
+    public static void main(String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final GameServer server = new GameServer(new Config(), port, DEFAULT_IDLE_TIMEOUT);
+        System.out.println("Race track server listening on port " + server.getPort()
+            + (server.usesVirtualThreads() ? " with virtual threads" : ""));
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            server.close();
+        }
+    }
+}
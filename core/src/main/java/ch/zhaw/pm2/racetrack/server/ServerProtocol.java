@@ -0,0 +1,47 @@
+package ch.zhaw.pm2.racetrack.server;
+
+/**
+ * The binary protocol spoken between the {@link GameServer} and its clients.
+ *
+ * <p>Every message starts with a single byte naming its type, followed by the fields below in the big endian
+ * format of {@link java.io.DataOutputStream}. Strings are written with {@link java.io.DataOutputStream#writeUTF}.</p>
+ *
+ * <p>A client starts a race with {@link #START}. The server then plays the turns of its own bots and asks the client
+ * for the moves of the remote cars with {@link #YOUR_TURN}, which the client answers with {@link #MOVE}. Every turn
+ * is reported with {@link #MOVED}, and {@link #RACE_OVER} ends the race. The client may start the next race on the
+ * same connection or leave with {@link #QUIT}.</p>
+ *
+ * <pre>
+ * client to server
+ *   START      trackName:utf strategyCount:byte strategy:byte*   strategies are StrategyType ordinals per car
+ *   MOVE       direction:byte                                    a Direction ordinal
+ *   QUIT
+ * server to client
+ *   STARTED    session:int width:short height:short carCount:byte (id:char x:short y:short)*
+ *   YOUR_TURN  car:byte
+ *   MOVED      car:byte direction:byte x:short y:short velocityX:short velocityY:short crashed:byte
+ *   RACE_OVER  winner:byte                                       NO_WINNER if the turn limit was reached
+ *   ERROR      message:utf
+ * </pre>
+ *
+ * @version 1.0.0
+ */
+public final class ServerProtocol {
+    public static final int START = 0x01;
+    public static final int MOVE = 0x02;
+    public static final int QUIT = 0x03;
+
+    public static final int STARTED = 0x81;
+    public static final int YOUR_TURN = 0x82;
+    public static final int MOVED = 0x83;
+    public static final int RACE_OVER = 0x84;
+    public static final int ERROR = 0xFF;
+
+    /**
+     * Winner sent with {@link #RACE_OVER} if nobody won within the turn limit of a race.
+     */
+    public static final int NO_WINNER = -1;
+
+    private ServerProtocol() {
+    }
+}
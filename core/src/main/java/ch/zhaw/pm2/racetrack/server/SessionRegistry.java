@@ -0,0 +1,80 @@
+package ch.zhaw.pm2.racetrack.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of the connected sessions of a {@link GameServer}, safe for concurrent use by all session threads.
+ *
+ * @version 1.0.0
+ */
+public class SessionRegistry {
+    private final Map<Integer, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSessionId = new AtomicInteger(1);
+
+    /**
+     * Returns a new session id, unique within this registry.
+     *
+     * @return the session id
+     */
+    int createSessionId() {
+        return nextSessionId.getAndIncrement();
+    }
+
+    void register(GameSession session) {
+        sessions.put(session.getId(), session);
+    }
+
+    void unregister(GameSession session) {
+        sessions.remove(session.getId(), session);
+    }
+
+    /**
+     * Returns the session with the given id.
+     *
+     * @param sessionId the id of the session
+     * @return the session, or null if there is no connected session with this id
+     */
+    public GameSession getSession(int sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Returns the amount of connected sessions.
+     *
+     * @return the session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Closes all sessions which have been waiting for their client for longer than the given time.
+     *
+     * @param idleTimeoutNanos the longest allowed idle time in nanoseconds
+     * @return the amount of closed sessions
+     */
+    public int evictIdleSessions(long idleTimeoutNanos) {
+        final long now = System.nanoTime();
+        int evictedSessions = 0;
+        for (GameSession session : sessions.values()) {
+            if (session.getIdleNanos(now) > idleTimeoutNanos) {
+                unregister(session);
+                session.close();
+                evictedSessions++;
+            }
+        }
+        return evictedSessions;
+    }
+
+    /**
+     * Closes all sessions.
+     */
+    void closeAll() {
+        for (GameSession session : sessions.values()) {
+            unregister(session);
+            session.close();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.GameSnapshot;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.warmup.EngineWarmUp;
+import ch.zhaw.pm2.racetrack.game.warmup.WarmUpReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createChallengeTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the warm up of the engine on forks of the game.
+ */
+public class EngineWarmUpTest {
+    private static final Duration GENEROUS_BUDGET = Duration.ofSeconds(20);
+
+    private Game game;
+
+    /**
+     * Sets up a game on the challenge track.
+     */
+    @BeforeEach
+    public void setUp() {
+        game = new Game(new Track(createChallengeTrack()));
+    }
+
+    /**
+     * Tests whether the warm up leaves the game and its track untouched.
+     */
+    @Test
+    public void gameUntouchedTest() {
+        final GameSnapshot before = game.createSnapshot();
+        final String trackBefore = game.getTrack().toString();
+        new EngineWarmUp(game, GENEROUS_BUDGET, 10).run();
+        assertEquals(before, game.createSnapshot());
+        assertEquals(trackBefore, game.getTrack().toString());
+        assertFalse(game.hasWinner());
+    }
+
+    /**
+     * Tests whether the warm up ends warm, unless it ran out of rounds before the round times stabilized.
+     */
+    @Test
+    public void warmUpTest() {
+        final WarmUpReport report = new EngineWarmUp(game, GENEROUS_BUDGET).run();
+        assertTrue(report.isWarm() || report.getRounds() == EngineWarmUp.DEFAULT_MAX_ROUNDS, report.toString());
+        assertTrue(report.getRounds() >= 1);
+        assertTrue(report.getFirstRoundNanos() > 0);
+        assertTrue(report.getLastRoundNanos() > 0);
+        assertTrue(report.getElapsedNanos() >= report.getFirstRoundNanos());
+    }
+
+    /**
+     * Tests whether a single round is played even without a time budget, but the engine does not count as warm.
+     */
+    @Test
+    public void noBudgetTest() {
+        final WarmUpReport report = new EngineWarmUp(game, Duration.ZERO).run();
+        assertEquals(1, report.getRounds());
+        assertFalse(report.isWarm());
+        assertEquals(report.getFirstRoundNanos(), report.getLastRoundNanos());
+    }
+
+    /**
+     * Tests whether the maximal amount of rounds is respected.
+     */
+    @Test
+    public void maxRoundsTest() {
+        final WarmUpReport report = new EngineWarmUp(game, GENEROUS_BUDGET, 3).run();
+        assertEquals(3, report.getRounds());
+        assertFalse(report.isWarm());
+    }
+
+    /**
+     * Tests whether invalid arguments are rejected.
+     */
+    @Test
+    public void invalidArgumentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new EngineWarmUp(game, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new EngineWarmUp(game, GENEROUS_BUDGET, 0));
+        assertThrows(NullPointerException.class, () -> new EngineWarmUp(null, GENEROUS_BUDGET));
+    }
+}
@@ -0,0 +1,207 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.AbstractFileSelector;
+import ch.zhaw.pm2.racetrack.game.AbstractGamePhaseHandler;
+import ch.zhaw.pm2.racetrack.game.FastForwardMode;
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSource;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.game.warmup.WarmUpReport;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.*;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests which turns are shown while races are fast forwarded.
+ */
+public class FastForwardTest {
+    private static final Duration NO_FRAMES = Duration.ofDays(1);
+    private static final int MAX_SPEED = 3;
+
+    @TempDir
+    File trackDirectory;
+
+    /**
+     * Tests whether a race of bots only shows its first frame and its winner.
+     */
+    @Test
+    public void botRaceTest() throws IOException {
+        final RecordingGamePhaseHandler handler = playRace(FastForwardMode.AUTO, PATH_FINDER, DO_NOT_MOVE);
+        assertEquals("a", handler.winner);
+        assertTrue(handler.turnAnnouncements.isEmpty());
+        assertEquals(1, handler.displayedTracks);
+        assertEquals(List.of(0), handler.progressTurns);
+    }
+
+    /**
+     * Tests whether every turn is shown if fast forwarding is turned off.
+     */
+    @Test
+    public void fastForwardOffTest() throws IOException {
+        final RecordingGamePhaseHandler handler = playRace(FastForwardMode.OFF, PATH_FINDER, DO_NOT_MOVE);
+        assertEquals("a", handler.winner);
+        assertEquals(handler.turnAnnouncements.size(), handler.displayedTracks);
+        assertTrue(handler.turnAnnouncements.contains('b'));
+        assertTrue(handler.progressTurns.isEmpty());
+    }
+
+    /**
+     * Tests whether only the turns of users are shown in a race with users.
+     */
+    @Test
+    public void userRaceTest() throws IOException {
+        final RecordingGamePhaseHandler autoHandler = playRace(FastForwardMode.AUTO, USER, DO_NOT_MOVE);
+        assertEquals("a", autoHandler.winner);
+        assertTrue(autoHandler.turnAnnouncements.contains('b'));
+        assertTrue(autoHandler.progressTurns.isEmpty());
+
+        final RecordingGamePhaseHandler onHandler = playRace(FastForwardMode.ON, USER, DO_NOT_MOVE);
+        assertEquals("a", onHandler.winner);
+        assertFalse(onHandler.turnAnnouncements.isEmpty());
+        assertFalse(onHandler.turnAnnouncements.contains('b'));
+        assertEquals(List.of(1), onHandler.progressTurns);
+    }
+
+    private RecordingGamePhaseHandler playRace(FastForwardMode fastForwardMode, StrategyType... strategies)
+        throws IOException {
+        Files.write(new File(trackDirectory, "horizontal.txt").toPath(), createHorizontalTrack(), UTF_8);
+        final Config config = new Config();
+        config.setTrackDirectory(trackDirectory);
+        config.setFastForwardMode(fastForwardMode);
+        config.setFastForwardFrameInterval(NO_FRAMES);
+        final RecordingGamePhaseHandler handler = new RecordingGamePhaseHandler(config, strategies);
+        handler.startGame();
+        return handler;
+    }
+
+    /**
+     * Plays a race with the given strategies, accelerating the user cars to the right, and records what is shown.
+     */
+    private static class RecordingGamePhaseHandler extends AbstractGamePhaseHandler {
+        private final StrategyType[] strategies;
+        private final List<Character> turnAnnouncements = new ArrayList<>();
+        private final List<Integer> progressTurns = new ArrayList<>();
+        private int displayedTracks;
+        private String winner;
+
+        RecordingGamePhaseHandler(Config config, StrategyType[] strategies) {
+            super(config);
+            this.strategies = strategies;
+        }
+
+        @Override
+        protected void displayGameIntroduction() {
+        }
+
+        @Override
+        protected void handleGameCompletedWithWinner(String winnerId) {
+            winner = winnerId;
+        }
+
+        @Override
+        protected void displayChangeOfTurns(char currentCarId) {
+            turnAnnouncements.add(currentCarId);
+        }
+
+        @Override
+        protected void displayTrack(Track track) {
+            displayedTracks++;
+        }
+
+        @Override
+        protected void displayRaceProgress(int turns) {
+            progressTurns.add(turns);
+        }
+
+        @Override
+        protected void informUserAboutEngineWarmUp(WarmUpReport report) {
+        }
+
+        @Override
+        protected void displayGameWithOnlyNoMovementAsStrategy() {
+        }
+
+        @Override
+        protected void informUserAboutFollowerStrategyAlreadySelected() {
+        }
+
+        @Override
+        protected void informUserAboutRaceJournalNotSaved(File journalFile) {
+        }
+
+        @Override
+        protected void informUserAboutMetricsNotPublished() {
+        }
+
+        @Override
+        protected int promptMovementStrategy(char carId) {
+            return strategies[carId - 'a'].ordinal();
+        }
+
+        @Override
+        protected int promptAcceleration() {
+            final boolean accelerate = getGame().getCarVelocity(getGame().getCurrentCarIndex()).getX() < MAX_SPEED;
+            return (accelerate ? Direction.RIGHT : Direction.NONE).ordinal();
+        }
+
+        @Override
+        protected AbstractFileSelector<Track> getTrackFileSelector() {
+            return new AbstractFileSelector<>(getConfig()) {
+                @Override
+                protected int promptFileSelection() {
+                    return 0;
+                }
+
+                @Override
+                protected void displayAvailableFiles(File[] fileDirectoryContent) {
+                }
+
+                @Override
+                protected void notifyUserOfDirectoryFileLoadingFail() {
+                    fail("Track directory is empty");
+                }
+
+                @Override
+                protected void notifyUserOfSelectionFail() {
+                    fail("Track could not be selected");
+                }
+
+                @Override
+                protected Track loadSelectedFile(File file) {
+                    try {
+                        return new Track(Files.readAllLines(file.toPath(), UTF_8));
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+
+                @Override
+                protected File getFileDirectory() {
+                    return getConfig().getTrackDirectory();
+                }
+            };
+        }
+
+        @Override
+        protected AbstractFileSelector<List<Direction>> getFollowerFileLoader() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected AbstractFileSelector<DirectionSource> getMoveListFileLoader() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
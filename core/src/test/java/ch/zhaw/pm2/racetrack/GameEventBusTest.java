@@ -0,0 +1,109 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.event.GameEventBus;
+import ch.zhaw.pm2.racetrack.game.event.GameEventType;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+import static ch.zhaw.pm2.racetrack.game.event.GameEventType.*;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the event bus and the events published by the game.
+ */
+public class GameEventBusTest {
+    private static final int EVENT_COUNT = 200;
+    private static final long SLOW_LISTENER_NANOS = 100_000;
+    private static final int MAX_SPEED = 3;
+
+    /**
+     * Tests whether a slow listener receives every event in order, making the publisher wait for it.
+     */
+    @Test
+    public void slowListenerReceivesAllEventsTest() {
+        final Car car = new Car('a', new PositionVector(1, 1));
+        final List<Long> sequences = new ArrayList<>();
+        final List<Long> fastSequences = new ArrayList<>();
+        final GameEventBus eventBus = new GameEventBus(4);
+        eventBus.subscribe(event -> {
+            LockSupport.parkNanos(SLOW_LISTENER_NANOS);
+            sequences.add(event.getSequence());
+        });
+        eventBus.subscribe(event -> fastSequences.add(event.getSequence()));
+        eventBus.subscribe(event -> {
+            throw new IllegalStateException("Failing listener");
+        });
+        for (int event = 0; event < EVENT_COUNT; event++) {
+            eventBus.publish(MOVE_RESOLVED, event, 0, car, Direction.NONE);
+        }
+        eventBus.close();
+        assertEquals(EVENT_COUNT, sequences.size());
+        assertEquals(sequences, fastSequences);
+        for (int event = 0; event < EVENT_COUNT; event++) {
+            assertEquals(event, sequences.get(event));
+        }
+        assertTrue(eventBus.getPublisherWaits() > 0);
+        assertThrows(IllegalStateException.class, () -> eventBus.publish(MOVE_RESOLVED, 0, 0, car, Direction.NONE));
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(3));
+    }
+
+    /**
+     * Tests the events of a race won by crossing the finish line.
+     */
+    @Test
+    public void raceEventsTest() {
+        final Game game = new Game(new Track(createHorizontalTrack()));
+        final List<GameEventType> types = new CopyOnWriteArrayList<>();
+        final List<Character> winners = new CopyOnWriteArrayList<>();
+        final GameEventBus eventBus = new GameEventBus();
+        eventBus.subscribe(event -> {
+            types.add(event.getType());
+            if (event.getType() == WINNER_DECIDED) {
+                winners.add(event.getCarId());
+            }
+        });
+        game.setEventBus(eventBus);
+        while (!game.hasWinner()) {
+            final boolean accelerate = game.getCurrentCarIndex() == 0 && game.getCarVelocity(0).getX() < MAX_SPEED;
+            game.doCarTurn(accelerate ? Direction.RIGHT : Direction.NONE);
+            game.switchToNextActiveCar();
+        }
+        eventBus.awaitConsumed();
+        assertEquals(List.of(TURN_STARTED, MOVE_RESOLVED), types.subList(0, 2));
+        assertEquals(List.of(FINISH_LINE_CROSSED, WINNER_DECIDED), types.subList(types.size() - 2, types.size()));
+        assertEquals(List.of('a'), winners);
+        assertFalse(types.contains(CAR_CRASHED));
+        eventBus.close();
+    }
+
+    /**
+     * Tests the events of a crash deciding the race.
+     */
+    @Test
+    public void crashEventsTest() {
+        final Game game = new Game(new Track(createHorizontalTrack()));
+        final List<GameEventType> types = new CopyOnWriteArrayList<>();
+        final List<Integer> carIndexes = new CopyOnWriteArrayList<>();
+        try (GameEventBus eventBus = new GameEventBus()) {
+            eventBus.subscribe(event -> {
+                types.add(event.getType());
+                carIndexes.add(event.getCarIndex());
+            });
+            game.setEventBus(eventBus);
+            game.doCarTurn(Direction.UP);
+            eventBus.awaitConsumed();
+        }
+        assertEquals(List.of(TURN_STARTED, MOVE_RESOLVED, CAR_CRASHED, WINNER_DECIDED), types);
+        assertEquals(List.of(0, 0, 0, 1), carIndexes);
+    }
+}
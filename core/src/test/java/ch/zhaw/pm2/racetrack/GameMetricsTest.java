@@ -0,0 +1,121 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.metrics.*;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.CounterMetric.*;
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.LatencyMetric.CAR_TURN;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.RIGHT;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.UP;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createChallengeTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the metrics recorded by the game and their exporters.
+ */
+public class GameMetricsTest {
+
+    /**
+     * Tests whether the percentiles of the histogram stay within the precision of its buckets.
+     */
+    @Test
+    public void histogramPercentilesTest() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000L);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_000, histogram.getValueAtPercentile(50), 5_000_000 * 0.04);
+        assertEquals(9_900_000, histogram.getValueAtPercentile(99), 9_900_000 * 0.04);
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    /**
+     * Tests whether turns, crashes and scanned path cells are recorded by the game.
+     */
+    @Test
+    public void carTurnMetricsTest() {
+        final Game game = new Game(new Track(createChallengeTrack()));
+        game.doCarTurn(RIGHT);
+        game.doCarTurn(UP);
+        final GameMetrics metrics = game.getMetrics();
+        assertEquals(2, metrics.getLatencies(CAR_TURN).getCount());
+        assertEquals(1, metrics.getCounter(CRASHES));
+        assertEquals(4, metrics.getCounter(PATH_CELLS_SCANNED));
+        assertEquals(0, metrics.getCounter(FINISH_LINE_CROSSINGS));
+    }
+
+    /**
+     * Tests whether a game created with disabled metrics does not record its turns.
+     */
+    @Test
+    public void disabledMetricsTest() {
+        final Game game = new Game(new Track(createChallengeTrack()), GameMetrics.DISABLED);
+        game.doCarTurn(RIGHT);
+        game.doCarTurn(UP);
+        assertSame(GameMetrics.DISABLED, game.getMetrics());
+        assertEquals(0, game.getMetrics().getLatencies(CAR_TURN).getCount());
+        assertEquals(0, game.getMetrics().getCounter(CRASHES));
+    }
+
+    /**
+     * Tests whether a published report reaches the in-memory, CSV and JSON sinks.
+     */
+    @Test
+    public void exportersTest() {
+        final GameMetrics metrics = new GameMetrics();
+        metrics.stopMeasurement(CAR_TURN, metrics.startMeasurement());
+        metrics.increment(CRASHES, 2);
+
+        final InMemoryMetricsSink inMemorySink = new InMemoryMetricsSink();
+        metrics.publish(inMemorySink);
+        final MetricsReport report = inMemorySink.getLastReport();
+        assertEquals(1, report.getLatencies().get("car_turn").getCount());
+        assertEquals(2, report.getCounters().get("crashes"));
+
+        final StringWriter csv = new StringWriter();
+        metrics.publish(new CsvMetricsExporter(csv));
+        assertTrue(csv.toString().startsWith("created_at,type,name,count"));
+        assertTrue(csv.toString().contains(",counter,crashes,,,,,,,,,2"));
+
+        final StringWriter json = new StringWriter();
+        metrics.publish(new JsonMetricsExporter(json));
+        assertTrue(json.toString().contains("\"car_turn\":{\"count\":1,"));
+        assertTrue(json.toString().contains("\"crashes\":2"));
+    }
+
+    /**
+     * Tests whether the exporters do not propagate a failing writer to the game.
+     */
+    @Test
+    public void failingExportersTest() {
+        final GameMetrics metrics = new GameMetrics();
+        metrics.increment(CRASHES, 1);
+        final Writer failingWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertDoesNotThrow(() -> metrics.publish(new CsvMetricsExporter(failingWriter)));
+        assertDoesNotThrow(() -> metrics.publish(new JsonMetricsExporter(failingWriter)));
+    }
+}
@@ -0,0 +1,237 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.server.GameServer;
+import ch.zhaw.pm2.racetrack.server.GameSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.NONE;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.RIGHT;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.DO_NOT_MOVE;
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType.USER;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static ch.zhaw.pm2.racetrack.server.ServerProtocol.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the game server by playing races over localhost.
+ */
+public class GameServerTest {
+    private static final String TRACK_NAME = "horizontal.txt";
+    private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_SPEED = 3;
+    private static final int CONCURRENT_CLIENTS = 200;
+    private static final int SMALL_RECEIVE_BUFFER = 4096;
+    private static final long SLOW_CLIENT_MILLIS = 500;
+    private static final int BOT_RACES = 50;
+
+    @TempDir
+    File directory;
+
+    private Config config;
+    private GameServer server;
+
+    /**
+     * Writes the horizontal track into the track directory and starts a server.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        config = new Config();
+        config.setTrackDirectory(directory);
+        config.setTrackCacheDirectory(new File(directory, "cache"));
+        Files.write(new File(directory, TRACK_NAME).toPath(), createHorizontalTrack(), UTF_8);
+        server = new GameServer(config, 0, IDLE_TIMEOUT);
+    }
+
+    /**
+     * Stops the server.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Tests whether a client racing against a server bot wins the race.
+     */
+    @Test
+    public void playRaceTest() throws IOException {
+        try (Socket socket = connect()) {
+            assertEquals(0, playRace(socket));
+            assertEquals(1, server.getSessionRegistry().getSessionCount());
+            assertEquals(0, playRace(socket));
+            quit(socket);
+        }
+    }
+
+    /**
+     * Tests whether many clients race at the same time.
+     */
+    @Test
+    public void concurrentSessionsTest() throws Exception {
+        final ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+        try {
+            final List<Future<Integer>> winners = new ArrayList<>();
+            for (int client = 0; client < CONCURRENT_CLIENTS; client++) {
+                winners.add(clients.submit(() -> {
+                    try (Socket socket = connect()) {
+                        final int winner = playRace(socket);
+                        quit(socket);
+                        return winner;
+                    }
+                }));
+            }
+            for (Future<Integer> winner : winners) {
+                assertEquals(0, winner.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests whether silent clients are disconnected.
+     */
+    @Test
+    public void idleEvictionTest() throws IOException {
+        server.close();
+        server = new GameServer(config, 0, Duration.ofMillis(100));
+        try (Socket socket = connect()) {
+            socket.setSoTimeout((int) Duration.ofSeconds(10).toMillis());
+            assertEquals(-1, socket.getInputStream().read());
+            assertEquals(0, server.getSessionRegistry().getSessionCount());
+        }
+    }
+
+    /**
+     * Tests whether a session sending races of bots to a slow client is not closed as idle. The races are started
+     * at once and produce more output than the connection buffers, so the session blocks on sending while the
+     * client does not read.
+     */
+    @Test
+    public void botRacesNotIdleTest() throws Exception {
+        server.close();
+        server = new GameServer(config, 0, Duration.ofMillis(100));
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(SMALL_RECEIVE_BUFFER);
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+            socket.setSoTimeout((int) Duration.ofSeconds(10).toMillis());
+            for (int race = 0; race < BOT_RACES; race++) {
+                sendStart(socket, TRACK_NAME, DO_NOT_MOVE.ordinal(), DO_NOT_MOVE.ordinal());
+            }
+            Thread.sleep(SLOW_CLIENT_MILLIS);
+            final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            for (int race = 0; race < BOT_RACES; race++) {
+                assertEquals(STARTED, inputStream.readUnsignedByte());
+                inputStream.skipNBytes(Integer.BYTES + 2 * Short.BYTES);
+                inputStream.skipNBytes(inputStream.readUnsignedByte() * (Character.BYTES + 2L * Short.BYTES));
+                int moves = 0;
+                while (inputStream.readUnsignedByte() == MOVED) {
+                    inputStream.skipNBytes(2 + 4 * Short.BYTES + 1);
+                    moves++;
+                }
+                assertEquals(GameSession.MAX_TURNS_PER_RACE, moves);
+                assertEquals(NO_WINNER, inputStream.readByte());
+            }
+        }
+    }
+
+    /**
+     * Tests whether unknown tracks and unsupported strategies are reported without closing the session.
+     */
+    @Test
+    public void errorTest() throws IOException {
+        try (Socket socket = connect()) {
+            final DataInputStream inputStream = new DataInputStream(socket.getInputStream());
+            sendStart(socket, "../" + TRACK_NAME, USER.ordinal());
+            assertEquals(ERROR, inputStream.readUnsignedByte());
+            inputStream.readUTF();
+            sendStart(socket, TRACK_NAME, USER.ordinal(), 2);
+            assertEquals(ERROR, inputStream.readUnsignedByte());
+            inputStream.readUTF();
+            assertEquals(0, playRace(socket));
+        }
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    /**
+     * Drives the first car to the finish line while the server bot of the second car stands still.
+     *
+     * @return the winner reported by the server
+     */
+    private static int playRace(Socket socket) throws IOException {
+        final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        final DataOutputStream outputStream = new DataOutputStream(socket.getOutputStream());
+        sendStart(socket, TRACK_NAME, USER.ordinal(), DO_NOT_MOVE.ordinal());
+        assertEquals(STARTED, inputStream.readUnsignedByte());
+        inputStream.readInt();
+        assertEquals(30, inputStream.readShort());
+        assertEquals(4, inputStream.readShort());
+        final int carCount = inputStream.readUnsignedByte();
+        assertEquals(2, carCount);
+        for (int car = 0; car < carCount; car++) {
+            inputStream.readChar();
+            inputStream.readShort();
+            inputStream.readShort();
+        }
+        int velocityX = 0;
+        while (true) {
+            switch (inputStream.readUnsignedByte()) {
+                case YOUR_TURN -> {
+                    assertEquals(0, inputStream.readUnsignedByte());
+                    outputStream.writeByte(MOVE);
+                    outputStream.writeByte(velocityX < MAX_SPEED ? RIGHT.ordinal() : NONE.ordinal());
+                    outputStream.flush();
+                }
+                case MOVED -> {
+                    final int car = inputStream.readUnsignedByte();
+                    inputStream.readUnsignedByte();
+                    inputStream.readShort();
+                    inputStream.readShort();
+                    final int movedVelocityX = inputStream.readShort();
+                    inputStream.readShort();
+                    assertFalse(inputStream.readBoolean());
+                    if (car == 0) {
+                        velocityX = movedVelocityX;
+                    }
+                }
+                case RACE_OVER -> {
+                    return inputStream.readByte();
+                }
+                default -> fail("Unexpected message");
+            }
+        }
+    }
+
+    private static void sendStart(Socket socket, String trackName, int... strategies) throws IOException {
+        final DataOutputStream outputStream = new DataOutputStream(socket.getOutputStream());
+        outputStream.writeByte(START);
+        outputStream.writeUTF(trackName);
+        outputStream.writeByte(strategies.length);
+        for (int strategy : strategies) {
+            outputStream.writeByte(strategy);
+        }
+        outputStream.flush();
+    }
+
+    private static void quit(Socket socket) throws IOException {
+        socket.getOutputStream().write(QUIT);
+        socket.getOutputStream().flush();
+    }
+}
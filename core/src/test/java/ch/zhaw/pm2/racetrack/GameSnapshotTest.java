@@ -0,0 +1,87 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.GameSnapshot;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.track.generator.TrackGenerator;
+import ch.zhaw.pm2.racetrack.game.track.generator.TrackShapeType;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.LatencyMetric.CAR_TURN;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.*;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createChallengeTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests snapshots and forks of the game.
+ */
+public class GameSnapshotTest {
+    private Game game;
+
+    /**
+     * Sets up a game on the challenge track.
+     */
+    @BeforeEach
+    public void setUp() {
+        game = new Game(new Track(createChallengeTrack()));
+    }
+
+    /**
+     * Tests whether restoring a snapshot brings back the state before a crash.
+     */
+    @Test
+    public void restoreSnapshotTest() {
+        game.doCarTurn(RIGHT);
+        final GameSnapshot snapshot = game.createSnapshot();
+        assertEquals(new PositionVector(25, 22), new PositionVector(snapshot.getCarX(0), snapshot.getCarY(0)));
+        assertEquals(1, snapshot.getCarVelocityX(0));
+
+        game.doCarTurn(UP);
+        assertTrue(game.getTrack().getCar(0).isCrashed());
+        assertTrue(game.hasWinner());
+
+        game.restoreSnapshot(snapshot);
+        assertFalse(game.getTrack().getCar(0).isCrashed());
+        assertFalse(game.hasWinner());
+        assertEquals(new PositionVector(25, 22), game.getCarPosition(0));
+        assertEquals(new PositionVector(1, 0), game.getCarVelocity(0));
+        assertEquals(snapshot, game.createSnapshot());
+    }
+
+    /**
+     * Tests whether a fork shares the grid but not the state of the cars.
+     */
+    @Test
+    public void forkIsIndependentTest() {
+        final GameSnapshot before = game.createSnapshot();
+        final Game fork = game.fork();
+        assertEquals(before, fork.createSnapshot());
+        assertNotSame(game.getTrack().getCar(0), fork.getTrack().getCar(0));
+
+        fork.doCarTurn(UP);
+        assertTrue(fork.getTrack().getCar(0).isCrashed());
+        assertEquals(before, game.createSnapshot());
+
+        fork.restoreSnapshot(before);
+        fork.doCarTurn(RIGHT);
+        game.doCarTurn(RIGHT);
+        assertEquals(game.createSnapshot(), fork.createSnapshot());
+        assertEquals(1, game.getMetrics().getLatencies(CAR_TURN).getCount());
+    }
+
+    /**
+     * Tests whether snapshots survive the conversion to an array and reject foreign games.
+     */
+    @Test
+    public void snapshotArrayTest() {
+        final GameSnapshot snapshot = game.createSnapshot();
+        assertEquals(snapshot, GameSnapshot.fromArray(snapshot.toArray()));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.fromArray(new int[3]));
+        final TrackGenerator generator = new TrackGenerator(TrackShapeType.OVAL, 1);
+        generator.setCarCount(4);
+        final Game otherGame = new Game(new Track(generator.generateTrackRows()));
+        assertThrows(IllegalArgumentException.class, () -> otherGame.restoreSnapshot(snapshot));
+    }
+}
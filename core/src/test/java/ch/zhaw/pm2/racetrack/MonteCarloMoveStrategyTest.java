@@ -0,0 +1,98 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.GameSnapshot;
+import ch.zhaw.pm2.racetrack.game.search.DistanceMap;
+import ch.zhaw.pm2.racetrack.game.strategy.MonteCarloMoveStrategy;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.CounterMetric.SEARCH_ITERATIONS;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createChallengeTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the monte carlo tree search bot.
+ */
+public class MonteCarloMoveStrategyTest {
+    private static final Duration TIME_BUDGET = Duration.ofSeconds(5);
+    private static final int MAX_ITERATIONS_PER_WORKER = 500;
+    private static final int MAX_TURNS = 150;
+
+    private ForkJoinPool pool;
+    private Game game;
+
+    /**
+     * Sets up a game on the challenge track and a small pool for the search.
+     */
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(2);
+        game = new Game(new Track(createChallengeTrack()));
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Tests whether the distances decrease towards the finish line and the cars start a lap away from it.
+     */
+    @Test
+    public void distanceMapTest() {
+        final DistanceMap distanceMap = new DistanceMap(game.getTrack());
+        assertEquals(0, distanceMap.getDistance(21, 22));
+        assertEquals(1, distanceMap.getDistance(20, 22));
+        assertTrue(distanceMap.getDistance(24, 22) > distanceMap.getDistance(30, 22));
+        assertEquals(distanceMap.getUnreachableDistance(), distanceMap.getDistance(0, 0));
+        assertEquals(distanceMap.getUnreachableDistance(), distanceMap.getDistance(-1, 100));
+    }
+
+    /**
+     * Tests whether the bot finishes a lap without crashing while the other car does not move.
+     */
+    @Test
+    public void finishesLapTest() {
+        final MonteCarloMoveStrategy strategy = new MonteCarloMoveStrategy(game, pool, TIME_BUDGET, MAX_ITERATIONS_PER_WORKER, 1);
+        int turns = 0;
+        while (!game.hasWinner() && turns < MAX_TURNS) {
+            game.doCarTurn(game.getCurrentCarIndex() == 0 ? strategy.nextMove() : Direction.NONE);
+            assertFalse(game.getTrack().getCar(0).isCrashed(), "Crashed in turn " + turns);
+            if (!game.hasWinner()) {
+                game.switchToNextActiveCar();
+            }
+            turns++;
+        }
+        assertEquals(0, game.getWinner());
+        assertTrue(game.getMetrics().getCounter(SEARCH_ITERATIONS) > 0);
+    }
+
+    /**
+     * Tests whether the search leaves the searched game untouched.
+     */
+    @Test
+    public void searchDoesNotModifyGameTest() {
+        final GameSnapshot before = game.createSnapshot();
+        new MonteCarloMoveStrategy(game, pool, TIME_BUDGET, MAX_ITERATIONS_PER_WORKER, 1).nextMove();
+        assertEquals(before, game.createSnapshot());
+    }
+
+    /**
+     * Tests whether invalid search limits are rejected.
+     */
+    @Test
+    public void invalidLimitsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloMoveStrategy(game, pool, Duration.ZERO, MAX_ITERATIONS_PER_WORKER, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloMoveStrategy(game, pool, TIME_BUDGET, 0, 1));
+    }
+}
@@ -0,0 +1,153 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSequence;
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSource;
+import ch.zhaw.pm2.racetrack.game.movelist.MoveListLoader;
+import ch.zhaw.pm2.racetrack.game.movelist.PackedDirectionSource;
+import ch.zhaw.pm2.racetrack.game.strategy.MoveListStrategy;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.DOWN;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.LEFT;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.RIGHT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for the Move List Strategy.
+ *
+ * @author weberph5
+ */
+public class MoveListTest {
+    private Track track;
+    private Game game;
+    private Car playerOne;
+
+    @BeforeEach
+    public void setUp() {
+        track = new Track(createHorizontalTrack());
+        game = new Game(track);
+        playerOne = track.getCar(0);
+    }
+
+    @Test
+    @DisplayName("This test tests 3 movements to the right on a horizontal track")
+    public void checkMoveThreeToRight() {
+        List<Direction> directionList = new ArrayList<>(List.of(RIGHT, RIGHT, RIGHT));
+        playerOne.setMoveStrategy(new MoveListStrategy(directionList));
+        for (int move = 0; move < directionList.size(); move++) {
+            final Car car = game.getTrack().getCar(0);
+            final Direction acceleration = car.getMoveStrategy().nextMove();
+            game.doCarTurn(acceleration);
+        }
+        assertEquals(new PositionVector(7, 1), playerOne.getPosition());
+    }
+
+    @Test
+    @DisplayName("This test tests 1 movement to the right and then 1 down on a horizontal track")
+    public void checkMoveOneRightOneDown() {
+        List<Direction> directionList = new ArrayList<>(List.of(RIGHT, DOWN));
+        playerOne.setMoveStrategy(new MoveListStrategy(directionList));
+        for (int move = 0; move < directionList.size(); move++) {
+            final Car car = game.getTrack().getCar(0);
+            final Direction acceleration = car.getMoveStrategy().nextMove();
+            game.doCarTurn(acceleration);
+        }
+        assertEquals(new PositionVector(3, 2), playerOne.getPosition());
+    }
+
+    @Test
+    @DisplayName("This test streams a move list file and packs it into the binary format")
+    public void streamAndPackMoveList(@TempDir File directory) throws IOException {
+        final MoveListLoader moveListLoader = new MoveListLoader();
+        final File moveListFile = new File("moves", "challenge-car-a.txt");
+        final List<Direction> loadedDirections = moveListLoader.loadMoveListFile(moveListFile);
+        assertEquals(1, loadedDirections.size() % 2, "An odd amount of moves tests the padding");
+
+        final File packedFile = new File(directory, "challenge-car-a.rtm");
+        moveListLoader.writePackedMoveList(moveListLoader.openMoveListFile(moveListFile), packedFile);
+        assertEquals(4 + (loadedDirections.size() + 1) / 2, packedFile.length());
+
+        final DirectionSource packedSource = moveListLoader.openMoveListFile(packedFile);
+        assertInstanceOf(PackedDirectionSource.class, packedSource);
+        assertEquals(loadedDirections.size(), ((PackedDirectionSource) packedSource).getMoveCount());
+        for (Direction direction : loadedDirections) {
+            assertTrue(packedSource.hasNext());
+            assertEquals(direction, packedSource.next());
+        }
+        assertFalse(packedSource.hasNext());
+
+        final MoveListStrategy strategy = new MoveListStrategy(moveListLoader.openMoveListFile(packedFile));
+        for (Direction direction : loadedDirections) {
+            assertEquals(direction, strategy.nextMove());
+        }
+        assertEquals(Direction.NONE, strategy.nextMove());
+    }
+
+    @Test
+    @DisplayName("This test closes the move list file of a strategy abandoned before its last move")
+    public void closeAbandonedMoveList() throws IOException {
+        final DirectionSource source = new MoveListLoader().openMoveListFile(new File("moves", "challenge-car-a.txt"));
+        final MoveListStrategy strategy = new MoveListStrategy(source);
+        strategy.nextMove();
+        assertTrue(source.hasNext());
+        strategy.close();
+        assertThrows(UncheckedIOException.class, source::next);
+    }
+
+    @Test
+    @DisplayName("This test closes the move list file of a car crashing before its last move")
+    public void closeMoveListOfCrashedCar(@TempDir File directory) throws IOException {
+        final File moveListFile = new File(directory, "crash.txt");
+        Files.write(moveListFile.toPath(), List.of("UP", "RIGHT", "RIGHT"), UTF_8);
+        final DirectionSource source = new MoveListLoader().openMoveListFile(moveListFile);
+        playerOne.setMoveStrategy(new MoveListStrategy(source));
+        game.doCarTurn(playerOne.getMoveStrategy().nextMove());
+        assertTrue(playerOne.isCrashed());
+        assertTrue(source.hasNext());
+        assertThrows(UncheckedIOException.class, source::next);
+    }
+
+    @Test
+    @DisplayName("This test follows one shared direction sequence with independent cursors")
+    public void shareDirectionSequence() {
+        final List<Direction> directionList = new ArrayList<>(List.of(RIGHT, DOWN, LEFT));
+        final DirectionSequence sequence = new DirectionSequence(directionList);
+        directionList.clear();
+        assertEquals(3, sequence.size());
+
+        final DirectionSequence.Cursor first = sequence.cursor();
+        final DirectionSequence.Cursor second = sequence.cursor();
+        assertEquals(RIGHT, first.next());
+        assertEquals(DOWN, first.peek());
+        assertEquals(1, first.getPosition());
+        assertEquals(RIGHT, second.next());
+        assertEquals(DOWN, first.next());
+        assertEquals(LEFT, first.next());
+        assertFalse(first.hasNext());
+        first.rewind();
+        assertEquals(RIGHT, first.next());
+        assertEquals(DOWN, second.next());
+
+        final MoveListStrategy strategy = new MoveListStrategy(sequence);
+        assertEquals(RIGHT, strategy.nextMove());
+        assertEquals(LEFT, DirectionSequence.readFrom(second).get(0));
+        assertFalse(second.hasNext());
+    }
+}
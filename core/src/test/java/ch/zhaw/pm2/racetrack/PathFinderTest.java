@@ -0,0 +1,119 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.path.finder.AbstractPathPointComparator.DecelerateComparator;
+import ch.zhaw.pm2.racetrack.game.path.finder.AbstractPathPointComparator.LongDistanceComparator;
+import ch.zhaw.pm2.racetrack.game.path.finder.MoveRanker;
+import ch.zhaw.pm2.racetrack.game.path.finder.MovesMap;
+import ch.zhaw.pm2.racetrack.game.path.finder.PathFinderStatistics;
+import ch.zhaw.pm2.racetrack.game.strategy.DoNotMoveStrategy;
+import ch.zhaw.pm2.racetrack.game.strategy.PathFinderMoveStrategy;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.CounterMetric.PATH_FINDER_EXPANDED_NODES;
+import static ch.zhaw.pm2.racetrack.game.metrics.GameMetrics.LatencyMetric.PATH_FINDER_SEARCH;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createChallengeTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests whether the pathfinder works or not
+ *
+ * @author fupat002, abuechi
+ */
+public class PathFinderTest {
+
+    private static final int CAR_INDEX = 1;
+    private static final int FIRST_CAR_INDEX = 0;
+
+    private Game game;
+
+    /**
+     * Sets up the path checker class.
+     */
+    @BeforeEach
+    public void setUp() {
+        Track track = new Track(createChallengeTrack());
+        game = new Game(track);
+        game.getTrack().getCar(FIRST_CAR_INDEX).setMoveStrategy(new PathFinderMoveStrategy(game));
+        game.getTrack().getCar(CAR_INDEX).setMoveStrategy(new DoNotMoveStrategy());
+    }
+
+    /**
+     * Tests whether the car can successfully maneuver through the track
+     */
+    @Disabled("Test is malfunctioning")
+    @Test
+    public void pathFinderTest() {
+        while (!game.hasWinner()) {
+            System.out.println(game.getTrack().toString());
+            final Car car = game.getTrack().getCar(game.getCurrentCarIndex());
+            final Direction acceleration = car.getMoveStrategy().nextMove();
+            game.doCarTurn(acceleration);
+
+            game.switchToNextActiveCar();
+        }
+        assertEquals("a", String.valueOf(game.getCarId(game.getWinner())));
+
+    }
+
+    /**
+     * Tests whether the search statistics are collected and handed to the game metrics.
+     */
+    @Test
+    public void searchStatisticsTest() {
+        final PathFinderMoveStrategy strategy = (PathFinderMoveStrategy) game.getTrack().getCar(FIRST_CAR_INDEX).getMoveStrategy();
+        final PathFinderStatistics statistics = strategy.getPathFinderStatistics();
+        assertTrue(statistics.isPathFound());
+        assertTrue(statistics.getExpandedNodes() > 0);
+        assertTrue(statistics.getPeakFrontierSize() > 0);
+        assertEquals(statistics.getExpandedNodes(), statistics.getVisitedNodes());
+        assertTrue(statistics.getLineOfSightChecks() > 0);
+        assertEquals(1, game.getMetrics().getLatencies(PATH_FINDER_SEARCH).getCount());
+        assertEquals(statistics.getExpandedNodes(), game.getMetrics().getCounter(PATH_FINDER_EXPANDED_NODES));
+    }
+
+    /**
+     * Tests whether the moves map recalculates its reused tables for a new turn.
+     */
+    @Test
+    public void movesMapTest() {
+        final MovesMap movesMap = new MovesMap(new PositionVector(5, 5), new PositionVector(9, 5), new PositionVector(1, 0));
+        final PositionVector position = movesMap.getPosition(Direction.UP_RIGHT);
+        assertEquals(new PositionVector(7, 4), position);
+        assertEquals(new PositionVector(2, -1), movesMap.getVelocity(Direction.UP_RIGHT));
+        assertEquals(8, movesMap.getProgressTowardsGoal(Direction.UP_RIGHT));
+
+        movesMap.update(new PositionVector(2, 3), new PositionVector(2, 0), new PositionVector(0, -2));
+        assertSame(position, movesMap.getPosition(Direction.UP_RIGHT));
+        assertEquals(new PositionVector(3, 0), position);
+        assertEquals(1, movesMap.getVelocityX(Direction.UP_RIGHT));
+        assertEquals(-3, movesMap.getVelocityY(Direction.UP_RIGHT));
+        assertEquals(9, movesMap.getProgressTowardsGoal(Direction.UP_RIGHT));
+    }
+
+    /**
+     * Tests whether the move ranker orders the moves like the comparators.
+     */
+    @Test
+    public void moveRankerTest() {
+        final MovesMap movesMap = new MovesMap(new PositionVector(5, 5), new PositionVector(9, 5), new PositionVector(0, 0));
+        final MoveRanker moveRanker = new MoveRanker();
+
+        moveRanker.rank(new LongDistanceComparator(movesMap));
+        assertEquals(Direction.UP_RIGHT, moveRanker.getMove(0));
+        assertEquals(Direction.DOWN_RIGHT, moveRanker.getMove(1));
+        assertEquals(Direction.RIGHT, moveRanker.getMove(2));
+        assertEquals(Direction.NONE, moveRanker.getMove(moveRanker.getMoveCount() - 1));
+
+        moveRanker.rank(new DecelerateComparator(movesMap));
+        assertEquals(Direction.NONE, moveRanker.getMove(0));
+        assertEquals(Direction.RIGHT, moveRanker.getMove(1));
+        assertEquals(Direction.DOWN_LEFT, moveRanker.getMove(moveRanker.getMoveCount() - 1));
+    }
+}
@@ -0,0 +1,130 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.path.follower.FollowerCompiler;
+import ch.zhaw.pm2.racetrack.game.path.follower.FollowerLoader;
+import ch.zhaw.pm2.racetrack.game.path.follower.ManeuverTable;
+import ch.zhaw.pm2.racetrack.game.strategy.PathFollowerMoveStrategy;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction.RIGHT;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the pathfollower strategy.
+ *
+ * @author weberph5
+ */
+
+public class PathFollowerTest {
+    private Track track;
+    private Game game;
+    private Car playerOne;
+
+    @BeforeEach
+    public void setUp() {
+        track = new Track(createHorizontalTrack());
+        game = new Game(track);
+        playerOne = track.getCar(0);
+    }
+
+    /**
+     * Loads a follower file from the test resources, so the tests run from any working directory.
+     */
+    private File getFixture(String fileName) {
+        try {
+            return new File(getClass().getResource("helpers/" + fileName).toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("Checks for the correct position after 3 valid path points")
+    public void checkPositionAfterThreeValidPoints() throws IOException {
+        File selectedFile = getFixture("ThreeValidPathPoints.txt");
+        List<Direction> directionList = new FollowerLoader().loadFollowerFile(selectedFile, track, playerOne);
+        playerOne.setMoveStrategy(new PathFollowerMoveStrategy(directionList));
+        for (int move = 0; move < directionList.size(); move++) {
+            final Car car = game.getTrack().getCar(0);
+            final Direction acceleration = car.getMoveStrategy().nextMove();
+            game.doCarTurn(acceleration);
+        }
+        assertEquals(new PositionVector(7, 1), playerOne.getPosition());
+    }
+
+    @Test
+    @DisplayName("Checks the position after 3 invalid path points")
+    public void checkPositionAfterThreeInvalidPoints() {
+        File selectedFile = getFixture("ThreeInvalidPathPoints.txt");
+        assertThrows(IOException.class, () -> new FollowerLoader().loadFollowerFile(selectedFile, track, playerOne));
+        assertEquals(new PositionVector(1, 1), playerOne.getPosition());
+    }
+
+    @Test
+    @DisplayName("Compiles waypoints into the accelerations landing on each of them")
+    public void compileWaypoints() throws IOException {
+        final List<Direction> directionList = new ArrayList<>();
+        new FollowerCompiler(track, playerOne.getPosition(), directionList::add)
+            .compile(new StringReader("(X:2, Y:1)\r\n(X:4, Y:1)\r\n\r\n(X:7, Y:1)"));
+        assertEquals(List.of(RIGHT, RIGHT, RIGHT), directionList);
+    }
+
+    @Test
+    @DisplayName("Drives through a long zigzag of waypoints without crashing")
+    public void compileLongWaypointFile() throws IOException {
+        final StringBuilder followerFile = new StringBuilder();
+        for (int waypoint = 1; waypoint <= 1000; waypoint++) {
+            followerFile.append("(X:").append(waypoint % 2 == 0 ? 25 : 3).append(", Y:").append(waypoint % 3 == 0 ? 2 : 1).append(")\n");
+        }
+        final List<Direction> directionList = new ArrayList<>();
+        new FollowerCompiler(track, playerOne.getPosition(), directionList::add).compile(new StringReader(followerFile.toString()));
+
+        final PositionVector position = new PositionVector(1, 1);
+        final PositionVector velocity = new PositionVector(0, 0);
+        for (Direction direction : directionList) {
+            velocity.setX(velocity.getX() + direction.getVector().getX());
+            velocity.setY(velocity.getY() + direction.getVector().getY());
+            position.setX(position.getX() + velocity.getX());
+            position.setY(position.getY() + velocity.getY());
+            assertTrue(position.getX() > 0 && position.getX() < 29 && position.getY() > 0 && position.getY() < 3);
+        }
+        assertEquals(new PositionVector(25, 1), position);
+    }
+
+    @Test
+    @DisplayName("Takes the fewest turns to reach a waypoint")
+    public void compileMinimalManeuver() throws IOException {
+        final List<Direction> directionList = new ArrayList<>();
+        new FollowerCompiler(track, playerOne.getPosition(), directionList::add).compile(new StringReader("(X:12, Y:1)"));
+        assertEquals(5, directionList.size());
+        assertTrue(ManeuverTable.isReachable(0, 11, 5));
+        assertFalse(ManeuverTable.isReachable(0, 11, 4));
+    }
+
+    @Test
+    @DisplayName("Rejects lines which are no waypoint and waypoints behind walls")
+    public void rejectInvalidWaypoint() {
+        final FollowerCompiler compiler = new FollowerCompiler(track, playerOne.getPosition(), direction -> { });
+        assertThrows(IOException.class, () -> compiler.compile(new StringReader("(X:2, Y:1)\nfinish")));
+        assertThrows(IOException.class, () -> new FollowerCompiler(track, playerOne.getPosition(), direction -> { })
+            .compile(new StringReader("(X:2, Y:4)")));
+    }
+}
@@ -0,0 +1,50 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionVectorTest {
+
+    @Test
+    void testEquals() {
+        PositionVector a = new PositionVector(3, 5);
+        PositionVector b = new PositionVector(3, 5);
+        assertEquals(a, b);
+    }
+
+    @Test
+    void testEqualsWithHashMap() {
+        Map<PositionVector, Integer> map = new HashMap<>();
+        PositionVector a = new PositionVector(3, 5);
+        map.put(a, 1);
+        PositionVector b = new PositionVector(3, 5);
+        assertTrue(map.containsKey(a), "Test with same object");
+        assertTrue(map.containsKey(b), "Test with equal object");
+    }
+
+    @Test
+    void testDirectionCodec() {
+        for (Direction direction : Direction.values()) {
+            final PositionVector vector = direction.getVector();
+            assertEquals(direction, DirectionCodec.fromVector(vector.getX(), vector.getY()));
+            assertEquals(direction, DirectionCodec.fromSigns(vector.getX() * 3, vector.getY() * 2));
+            assertEquals(direction, DirectionCodec.fromOrdinal(direction.ordinal()));
+            assertEquals(direction, DirectionCodec.fromName(direction.name()));
+            assertEquals(direction, Direction.translateToDirection(vector));
+        }
+        assertNull(DirectionCodec.fromVector(2, 0));
+        assertNull(DirectionCodec.fromOrdinal(DirectionCodec.DIRECTION_COUNT));
+        assertNull(DirectionCodec.fromOrdinal(-1));
+        assertNull(DirectionCodec.fromName("up"));
+        assertEquals(Direction.NONE, Direction.translateToDirection(new PositionVector(0, -2)));
+    }
+}
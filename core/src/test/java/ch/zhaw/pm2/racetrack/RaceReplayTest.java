@@ -0,0 +1,124 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.replay.RaceJournal;
+import ch.zhaw.pm2.racetrack.game.replay.RaceReplayer;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static ch.zhaw.pm2.racetrack.game.util.PositionVector.add;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createChallengeTrack;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createOvalClockTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests recording races into a journal and replaying them.
+ */
+public class RaceReplayTest {
+    private static final int MAX_TURNS = 60;
+    private static final long SEED = 7;
+
+    /**
+     * Tests whether every turn of a recorded race is reconstructed by the replayer after a round trip
+     * through the binary format.
+     */
+    @Test
+    public void replayReconstructsEveryTurnTest() throws IOException {
+        final Game game = new Game(new Track(createChallengeTrack()));
+        final RaceJournal journal = new RaceJournal(game.getTrack(), SEED);
+        game.setRaceJournal(journal);
+        final List<String> recordedStates = new ArrayList<>();
+        recordedStates.add(describeState(game));
+        final Random random = new Random(SEED);
+        while (!game.hasWinner() && recordedStates.size() <= MAX_TURNS) {
+            game.doCarTurn(chooseRandomSafeDirection(game, random));
+            if (!game.hasWinner()) {
+                game.switchToNextActiveCar();
+            }
+            recordedStates.add(describeState(game));
+        }
+
+        final ByteArrayOutputStream journalBytes = new ByteArrayOutputStream();
+        journal.writeTo(journalBytes);
+        final RaceJournal readJournal = RaceJournal.readFrom(new ByteArrayInputStream(journalBytes.toByteArray()));
+        assertEquals(journal.getTurnCount(), readJournal.getTurnCount());
+        assertEquals(SEED, readJournal.getSeed());
+
+        final RaceReplayer replayer = new RaceReplayer(createChallengeTrack(), readJournal, 3);
+        assertEquals(recordedStates.size() - 1, replayer.getTurnCount());
+        assertTrue(replayer.getTurnCount() > 10);
+        for (int turn = recordedStates.size() - 1; turn >= 0; turn--) {
+            assertEquals(recordedStates.get(turn), describeState(replayer.seek(turn)), "turn " + turn);
+        }
+    }
+
+    /**
+     * Tests whether an odd amount of turns is packed and read correctly.
+     */
+    @Test
+    public void packedTurnsTest() throws IOException {
+        final RaceJournal journal = new RaceJournal(new Track(createChallengeTrack()), SEED);
+        journal.append(Direction.DOWN_RIGHT);
+        journal.append(Direction.NONE);
+        journal.append(Direction.UP_LEFT);
+        final ByteArrayOutputStream journalBytes = new ByteArrayOutputStream();
+        journal.writeTo(journalBytes);
+        assertEquals(4 + 32 + 8 + 2, journalBytes.size());
+        final RaceJournal readJournal = RaceJournal.readFrom(new ByteArrayInputStream(journalBytes.toByteArray()));
+        assertEquals(3, readJournal.getTurnCount());
+        assertEquals(Direction.DOWN_RIGHT, readJournal.getDirection(0));
+        assertEquals(Direction.NONE, readJournal.getDirection(1));
+        assertEquals(Direction.UP_LEFT, readJournal.getDirection(2));
+    }
+
+    /**
+     * Tests whether journals of other tracks and invalid data are rejected.
+     */
+    @Test
+    public void invalidJournalTest() {
+        final RaceJournal journal = new RaceJournal(new Track(createChallengeTrack()), SEED);
+        assertThrows(IllegalArgumentException.class, () -> new RaceReplayer(createOvalClockTrack(), journal));
+        assertThrows(IOException.class, () -> RaceJournal.readFrom(new ByteArrayInputStream(new byte[48])));
+    }
+
+    /**
+     * Chooses a random direction not leading into a wall, another car or off the track, if there is one.
+     */
+    private Direction chooseRandomSafeDirection(Game game, Random random) {
+        final int carIndex = game.getCurrentCarIndex();
+        final PositionVector position = game.getCarPosition(carIndex);
+        final List<Direction> safeDirections = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            final PositionVector end = add(position, add(game.getCarVelocity(carIndex), direction.getVector()));
+            if (isOnTrack(end) && game.calculatePath(position, end).stream().noneMatch(point -> game.willCarCrash(carIndex, point))) {
+                safeDirections.add(direction);
+            }
+        }
+        return safeDirections.isEmpty() ? Direction.NONE : safeDirections.get(random.nextInt(safeDirections.size()));
+    }
+
+    private boolean isOnTrack(PositionVector position) {
+        final List<String> trackRows = createChallengeTrack();
+        return position.getX() >= 0 && position.getY() >= 0 && position.getY() < trackRows.size()
+            && position.getX() < trackRows.get(0).length();
+    }
+
+    private String describeState(Game game) {
+        final StringBuilder state = new StringBuilder(game.getTrack().toString());
+        state.append(game.getCurrentCarIndex()).append('/').append(game.getWinner());
+        for (Car car : game.getTrack().getCarsOnTrack()) {
+            state.append(' ').append(car.getVelocity()).append(car.isCrashed()).append(car.getFinishLineCrossings());
+        }
+        return state.toString();
+    }
+}
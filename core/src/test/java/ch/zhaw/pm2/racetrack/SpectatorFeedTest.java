@@ -0,0 +1,139 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.event.GameEventBus;
+import ch.zhaw.pm2.racetrack.game.spectator.SpectatorFeed;
+import ch.zhaw.pm2.racetrack.game.spectator.SpectatorFrame;
+import ch.zhaw.pm2.racetrack.game.spectator.SpectatorSubscription;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import org.junit.jupiter.api.Test;
+
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the frames of the spectator feed.
+ */
+public class SpectatorFeedTest {
+    private static final int MAX_SPEED = 3;
+    private static final int SLOW_SUBSCRIPTION_CAPACITY = 2;
+
+    /**
+     * Tests whether the deltas of a race rebuild the track shown by the game.
+     */
+    @Test
+    public void deltaFramesTest() {
+        final Track track = new Track(createHorizontalTrack());
+        final SpectatorFeed feed = new SpectatorFeed(track);
+        final SpectatorSubscription subscription = feed.subscribe(1024);
+        final char[][] screen = new char[track.getHeight()][track.getWidth()];
+        final SpectatorFrame keyframe = subscription.poll();
+        assertTrue(keyframe.isKeyframe());
+        assertEquals(0, keyframe.getNumber());
+        keyframe.applyTo(screen);
+        assertEquals(track.toString(), toString(screen));
+
+        final int frameCount = playRace(track, feed);
+        long frameNumber = 0;
+        for (SpectatorFrame frame = subscription.poll(); frame != null; frame = subscription.poll()) {
+            assertFalse(frame.isKeyframe());
+            assertEquals(++frameNumber, frame.getNumber());
+            assertTrue(frame.getCellCount() <= 2);
+            frame.applyTo(screen);
+        }
+        assertEquals(frameCount, frameNumber);
+        assertEquals(track.toString(), toString(screen));
+        assertEquals(0, subscription.getResyncCount());
+    }
+
+    /**
+     * Tests whether a spectator falling behind is resynced with a keyframe while the others get every delta.
+     */
+    @Test
+    public void slowSubscriptionResyncTest() {
+        final Track track = new Track(createHorizontalTrack());
+        final SpectatorFeed feed = new SpectatorFeed(track);
+        final SpectatorSubscription fastSubscription = feed.subscribe();
+        final SpectatorSubscription slowSubscription = feed.subscribe(SLOW_SUBSCRIPTION_CAPACITY);
+        final SpectatorSubscription leftSubscription = feed.subscribe();
+        leftSubscription.close();
+        assertEquals(2, feed.getSubscriptionCount());
+
+        final int frameCount = playRace(track, feed);
+        assertTrue(frameCount > SLOW_SUBSCRIPTION_CAPACITY);
+        assertTrue(slowSubscription.getResyncCount() > 0);
+        assertEquals(0, fastSubscription.getResyncCount());
+
+        final char[][] screen = new char[track.getHeight()][track.getWidth()];
+        final SpectatorFrame keyframe = slowSubscription.poll();
+        assertTrue(keyframe.isKeyframe());
+        keyframe.applyTo(screen);
+        long frameNumber = keyframe.getNumber();
+        for (SpectatorFrame frame = slowSubscription.poll(); frame != null; frame = slowSubscription.poll()) {
+            assertEquals(++frameNumber, frame.getNumber());
+            frame.applyTo(screen);
+        }
+        assertEquals(frameCount, frameNumber);
+        assertEquals(track.toString(), toString(screen));
+        assertEquals(frameCount + 1, drain(fastSubscription));
+    }
+
+    /**
+     * Tests whether a crash is shown on the spectator screen.
+     */
+    @Test
+    public void crashFrameTest() {
+        final Track track = new Track(createHorizontalTrack());
+        final SpectatorFeed feed = new SpectatorFeed(track);
+        final Game game = new Game(track);
+        try (GameEventBus eventBus = new GameEventBus()) {
+            eventBus.subscribe(feed);
+            game.setEventBus(eventBus);
+            game.doCarTurn(Direction.UP);
+            eventBus.awaitConsumed();
+        }
+        final SpectatorFrame keyframe = feed.getKeyframe();
+        assertEquals(2, keyframe.getNumber());
+        final char[][] screen = new char[track.getHeight()][track.getWidth()];
+        keyframe.applyTo(screen);
+        assertEquals(Track.CRASH_INDICATOR, screen[0][1]);
+        assertEquals(track.toString(), toString(screen));
+    }
+
+    /**
+     * Races the first car to the finish line while the second one stands still.
+     *
+     * @return the amount of frames produced by the feed
+     */
+    private static int playRace(Track track, SpectatorFeed feed) {
+        final Game game = new Game(track);
+        try (GameEventBus eventBus = new GameEventBus()) {
+            eventBus.subscribe(feed);
+            game.setEventBus(eventBus);
+            while (!game.hasWinner()) {
+                final boolean accelerate = game.getCurrentCarIndex() == 0 && game.getCarVelocity(0).getX() < MAX_SPEED;
+                game.doCarTurn(accelerate ? Direction.RIGHT : Direction.NONE);
+                game.switchToNextActiveCar();
+            }
+            eventBus.awaitConsumed();
+        }
+        return (int) feed.getKeyframe().getNumber();
+    }
+
+    private static int drain(SpectatorSubscription subscription) {
+        int frames = 0;
+        while (subscription.poll() != null) {
+            frames++;
+        }
+        return frames;
+    }
+
+    private static String toString(char[][] screen) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (char[] row : screen) {
+            stringBuilder.append(row).append('\n');
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package ch.zhaw.pm2.racetrack.track;
+
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.track.TrackCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createChallengeTrack;
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the cache of built tracks.
+ */
+public class TrackCacheTest {
+    @TempDir
+    File directory;
+
+    private File trackFile;
+    private File cacheDirectory;
+    private TrackCache trackCache;
+
+    /**
+     * Writes the challenge track into a track file and creates an empty cache.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        trackFile = new File(directory, "challenge.txt");
+        Files.write(trackFile.toPath(), createChallengeTrack(), UTF_8);
+        cacheDirectory = new File(directory, "cache");
+        trackCache = new TrackCache(cacheDirectory);
+    }
+
+    /**
+     * Tests whether a track loaded from the cache equals the track built from the track file.
+     */
+    @Test
+    public void cachedTrackEqualsBuiltTrackTest() throws IOException {
+        final Track builtTrack = new Track(createChallengeTrack());
+        assertFalse(trackCache.getEntry(trackFile).exists());
+        assertTrackEquals(builtTrack, trackCache.loadTrack(trackFile));
+        assertTrue(trackCache.getEntry(trackFile).exists());
+        assertTrackEquals(builtTrack, trackCache.loadTrack(trackFile));
+    }
+
+    /**
+     * Tests whether changing the track file replaces its cache entry.
+     */
+    @Test
+    public void changedTrackFileInvalidatesEntryTest() throws IOException {
+        trackCache.loadTrack(trackFile);
+        final File outdatedEntry = trackCache.getEntry(trackFile);
+        Files.write(trackFile.toPath(), createHorizontalTrack(), UTF_8);
+        assertTrackEquals(new Track(createHorizontalTrack()), trackCache.loadTrack(trackFile));
+        assertFalse(outdatedEntry.exists());
+        assertArrayEquals(new File[]{trackCache.getEntry(trackFile)}, cacheDirectory.listFiles());
+    }
+
+    /**
+     * Tests whether track files of the same name in different directories keep their own entries.
+     */
+    @Test
+    public void sameNameInOtherDirectoryTest() throws IOException {
+        final File otherTrackFile = new File(Files.createDirectory(directory.toPath().resolve("other")).toFile(),
+            trackFile.getName());
+        Files.write(otherTrackFile.toPath(), createHorizontalTrack(), UTF_8);
+        trackCache.loadTrack(trackFile);
+        trackCache.loadTrack(otherTrackFile);
+        assertNotEquals(trackCache.getEntry(trackFile), trackCache.getEntry(otherTrackFile));
+        assertTrue(trackCache.getEntry(trackFile).exists());
+        assertTrue(trackCache.getEntry(otherTrackFile).exists());
+        assertTrackEquals(new Track(createHorizontalTrack()), trackCache.loadTrack(otherTrackFile));
+    }
+
+    /**
+     * Tests whether a damaged entry is rebuilt and invalid track files are rejected.
+     */
+    @Test
+    public void damagedEntryAndInvalidTrackTest() throws IOException {
+        trackCache.loadTrack(trackFile);
+        Files.write(trackCache.getEntry(trackFile).toPath(), new byte[]{1, 2, 3});
+        assertTrackEquals(new Track(createChallengeTrack()), trackCache.loadTrack(trackFile));
+
+        Files.writeString(trackFile.toPath(), "###\n#a#\n", UTF_8);
+        assertThrows(IOException.class, () -> trackCache.loadTrack(trackFile));
+    }
+
+    private static void assertTrackEquals(Track expected, Track actual) {
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getFinishLineCoordinates(), actual.getFinishLineCoordinates());
+        assertEquals(expected.getCarCount(), actual.getCarCount());
+        for (int car = 0; car < expected.getCarCount(); car++) {
+            assertEquals(expected.getCarId(car), actual.getCarId(car));
+            assertEquals(expected.getCarPos(car), actual.getCarPos(car));
+        }
+    }
+}
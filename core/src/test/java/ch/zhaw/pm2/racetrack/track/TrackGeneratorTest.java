@@ -0,0 +1,99 @@
+package ch.zhaw.pm2.racetrack.track;
+
+import ch.zhaw.pm2.racetrack.game.path.finder.PathFinder;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.track.TrackLoader;
+import ch.zhaw.pm2.racetrack.game.track.generator.TrackGenerator;
+import ch.zhaw.pm2.racetrack.game.track.generator.TrackShapeType;
+import ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static ch.zhaw.pm2.racetrack.given.ConfigSpecification.SpaceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the procedural track generator.
+ */
+public class TrackGeneratorTest {
+    private static final long SEED = 42;
+    private static final SpaceType[] FINISH_LINE_ORIENTATIONS = {FINISH_RIGHT, FINISH_LEFT, FINISH_UP, FINISH_DOWN};
+
+    /**
+     * Tests whether every shape in every orientation is a valid track with the requested cars and finish line.
+     */
+    @Test
+    public void generatedTracksAreValidTest() {
+        final TrackLoader trackLoader = new TrackLoader();
+        for (TrackShapeType shapeType : TrackShapeType.values()) {
+            for (SpaceType orientation : FINISH_LINE_ORIENTATIONS) {
+                final TrackGenerator generator = createGenerator(shapeType, orientation);
+                final List<String> trackRows = generator.generateTrackRows();
+                assertTrue(trackLoader.isTrackFileValid(trackRows), shapeType + " " + orientation);
+                final Track track = new Track(trackRows);
+                assertEquals(4, track.getCarCount());
+                assertEquals(orientation, track.getFinishLineSymbol());
+            }
+        }
+    }
+
+    /**
+     * Tests whether the path finder finds a way to the finish line on every shape.
+     */
+    @Test
+    public void generatedTracksHaveAPathToTheFinishLineTest() {
+        for (TrackShapeType shapeType : TrackShapeType.values()) {
+            final Track track = new Track(createGenerator(shapeType, FINISH_UP).generateTrackRows());
+            assertNotNull(new PathFinder(track, 0).getNextPathFinderPoint(), shapeType.name());
+        }
+    }
+
+    /**
+     * Tests whether the same seed creates the same track and a different seed a different maze.
+     */
+    @Test
+    public void generationIsDeterministicTest() {
+        final List<String> firstMaze = createGenerator(TrackShapeType.MAZE, FINISH_RIGHT).generateTrackRows();
+        assertEquals(firstMaze, createGenerator(TrackShapeType.MAZE, FINISH_RIGHT).generateTrackRows());
+        final TrackGenerator otherSeed = new TrackGenerator(TrackShapeType.MAZE, SEED + 1);
+        otherSeed.setDimensions(61, 31);
+        otherSeed.setCarCount(4);
+        assertNotEquals(firstMaze, otherSeed.generateTrackRows());
+    }
+
+    /**
+     * Tests whether the streamed track file contains the same track as the one generated in memory.
+     */
+    @Test
+    public void writeTrackFileTest(@TempDir File directory) throws IOException {
+        final TrackGenerator generator = createGenerator(TrackShapeType.SPIRAL, FINISH_LEFT);
+        final File trackFile = new File(directory, "spiral.txt");
+        generator.writeTrackFile(trackFile);
+        assertEquals(generator.generateTrackRows(), new TrackLoader().loadTrackFile(trackFile));
+    }
+
+    /**
+     * Tests whether invalid configurations are rejected.
+     */
+    @Test
+    public void invalidConfigurationTest() {
+        final TrackGenerator generator = new TrackGenerator(TrackShapeType.OVAL, SEED);
+        assertThrows(IllegalArgumentException.class, () -> generator.setDimensions(TrackGenerator.MAX_DIMENSION + 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> generator.setCarCount(10));
+        assertThrows(IllegalArgumentException.class, () -> generator.setFinishLineOrientation(WALL));
+        generator.setDimensions(8, 8);
+        assertThrows(IllegalArgumentException.class, generator::generateTrackRows);
+    }
+
+    private TrackGenerator createGenerator(TrackShapeType shapeType, SpaceType orientation) {
+        final TrackGenerator generator = new TrackGenerator(shapeType, SEED);
+        generator.setDimensions(61, 31);
+        generator.setCarCount(4);
+        generator.setFinishLineOrientation(orientation);
+        return generator;
+    }
+}
@@ -0,0 +1,100 @@
+package ch.zhaw.pm2.racetrack.textbased;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Renders a track on an ANSI terminal by drawing it once and then only redrawing the cells which changed.
+ *
+ * <p>The track is drawn at the top of a cleared screen. Afterwards only the cells a car left or entered, or where a
+ * car crashed, are written, each with a cursor movement in front of it. As only the cells of cars can change, the
+ * output of a turn is proportional to the amount of cars instead of the size of the track. The cursor is saved
+ * before and restored after the changed cells, so the text below the track is not disturbed.</p>
+ *
+ * @version 1.0.0
+ */
+public class AnsiTrackRenderer {
+    private static final String ESCAPE = "\u001b[";
+    private static final String CLEAR_SCREEN = ESCAPE + "H" + ESCAPE + "2J";
+    private static final String CLEAR_TO_END_OF_SCREEN = ESCAPE + "J";
+    private static final String SAVE_CURSOR = "\u001b7";
+    private static final String RESTORE_CURSOR = "\u001b8";
+
+    private PositionVector[] drawnCarPositions;
+    private boolean[] drawnCarsCrashed;
+    private int trackHeight;
+
+    /**
+     * Returns the output bringing the screen up to date with the track. The first call draws the whole track on a
+     * cleared screen, leaving the cursor below the track, later calls only redraw the changed cells.
+     *
+     * @param track the track to draw, always the same track
+     * @return the text to write to the terminal, empty if nothing changed
+     */
+    public String render(Track track) {
+        Objects.requireNonNull(track);
+        final List<Car> cars = track.getCarsOnTrack();
+        if (drawnCarPositions == null) {
+            return drawTrack(track, cars);
+        }
+        final StringBuilder output = new StringBuilder();
+        for (int carIndex = 0; carIndex < cars.size(); carIndex++) {
+            final Car car = cars.get(carIndex);
+            if (!car.getPosition().equals(drawnCarPositions[carIndex]) || car.isCrashed() != drawnCarsCrashed[carIndex]) {
+                drawCell(output, track, drawnCarPositions[carIndex]);
+                drawCell(output, track, car.getPosition());
+                drawnCarPositions[carIndex] = car.getPosition();
+                drawnCarsCrashed[carIndex] = car.isCrashed();
+            }
+        }
+        if (output.length() == 0) {
+            return "";
+        }
+        return SAVE_CURSOR + output + RESTORE_CURSOR;
+    }
+
+    /**
+     * Returns the output moving the cursor to the first line below the track and clearing everything from there, so
+     * the text of a new turn does not scroll the track off the screen.
+     *
+     * @return the text to write to the terminal, empty if the track is not drawn yet
+     */
+    public String clearBelowTrack() {
+        if (drawnCarPositions == null) {
+            return "";
+        }
+        return moveCursor(0, trackHeight) + CLEAR_TO_END_OF_SCREEN;
+    }
+
+    private String drawTrack(Track track, List<Car> cars) {
+        drawnCarPositions = new PositionVector[cars.size()];
+        drawnCarsCrashed = new boolean[cars.size()];
+        for (int carIndex = 0; carIndex < cars.size(); carIndex++) {
+            drawnCarPositions[carIndex] = cars.get(carIndex).getPosition();
+            drawnCarsCrashed[carIndex] = cars.get(carIndex).isCrashed();
+        }
+        trackHeight = track.getHeight();
+        return CLEAR_SCREEN + track;
+    }
+
+    private static void drawCell(StringBuilder output, Track track, PositionVector position) {
+        if (position.getX() < 0 || position.getY() < 0
+            || position.getX() >= track.getWidth() || position.getY() >= track.getHeight()) {
+            return;
+        }
+        output.append(moveCursor(position.getX(), position.getY()));
+        output.append(track.getCharAtPosition(position.getY(), position.getX(), track.getSpaceType(position)));
+    }
+
+    /**
+     * Returns the sequence moving the cursor to a cell of the track, which starts at the top left corner of the
+     * screen. ANSI counts rows and columns from 1.
+     */
+    private static String moveCursor(int x, int y) {
+        return ESCAPE + (y + 1) + ";" + (x + 1) + "H";
+    }
+}
@@ -0,0 +1,60 @@
+package ch.zhaw.pm2.racetrack.textbased;
+
+import ch.zhaw.pm2.racetrack.Config;
+import ch.zhaw.pm2.racetrack.game.FastForwardMode;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * This Class contains the main method to start the game.
+ * The supported arguments are {@value #MONTE_CARLO_ARGUMENT}, letting path finder bots search their moves with
+ * a monte carlo tree search which avoids the other cars, and {@value #ANSI_ARGUMENT}, redrawing only the changed
+ * cells of the track on terminals supporting ANSI escape sequences, and {@value #VIEWPORT_ARGUMENT}, showing only a
+ * window of {@value #VIEWPORT_WIDTH} x {@value #VIEWPORT_HEIGHT} cells around the current car on large tracks. The
+ * viewport takes precedence over the ANSI mode, as the window moves with the cars. Races without users are fast
+ * forwarded, only showing the track a few times a second, unless {@value #NO_FAST_FORWARD_ARGUMENT} is given.
+ * {@value #FAST_FORWARD_ARGUMENT} fast forwards the turns of the bots in races with users as well.
+ * {@value #WARM_UP_ARGUMENT} warms up the engine for up to {@value #WARM_UP_SECONDS} seconds before the race starts,
+ * so the first turns of the bots are as fast as the later ones.
+ *
+ * @author weberph5
+ * @version 1.0.0
+ */
+public class TerminalRaceTrack {
+    private static final String MONTE_CARLO_ARGUMENT = "--monte-carlo";
+    private static final String ANSI_ARGUMENT = "--ansi";
+    private static final String VIEWPORT_ARGUMENT = "--viewport";
+    private static final String FAST_FORWARD_ARGUMENT = "--fast-forward";
+    private static final String NO_FAST_FORWARD_ARGUMENT = "--no-fast-forward";
+    private static final String WARM_UP_ARGUMENT = "--warm-up";
+    private static final int VIEWPORT_WIDTH = 80;
+    private static final int VIEWPORT_HEIGHT = 24;
+    private static final int WARM_UP_SECONDS = 5;
+
+    /**
+     * Starts the application
+     *
+     * @param args - optionally {@value #MONTE_CARLO_ARGUMENT}, {@value #ANSI_ARGUMENT}, {@value #VIEWPORT_ARGUMENT}
+     *             and {@value #FAST_FORWARD_ARGUMENT} or {@value #NO_FAST_FORWARD_ARGUMENT} and
+     *             {@value #WARM_UP_ARGUMENT}
+     */
+    public static void main(String[] args) {
+        final Config config = new Config();
+        config.setMonteCarloPathFinder(List.of(args).contains(MONTE_CARLO_ARGUMENT));
+        config.setAnsiTerminal(List.of(args).contains(ANSI_ARGUMENT));
+        if (List.of(args).contains(VIEWPORT_ARGUMENT)) {
+            config.setViewport(VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        }
+        if (List.of(args).contains(FAST_FORWARD_ARGUMENT)) {
+            config.setFastForwardMode(FastForwardMode.ON);
+        } else if (List.of(args).contains(NO_FAST_FORWARD_ARGUMENT)) {
+            config.setFastForwardMode(FastForwardMode.OFF);
+        }
+        if (List.of(args).contains(WARM_UP_ARGUMENT)) {
+            config.setEngineWarmUpBudget(Duration.ofSeconds(WARM_UP_SECONDS));
+        }
+        final TextBasedGamePhaseHandler textBasedGame = new TextBasedGamePhaseHandler(config);
+        textBasedGame.startGame();
+    }
+}
@@ -3,17 +3,25 @@ package ch.zhaw.pm2.racetrack.textbased;
 import ch.zhaw.pm2.racetrack.Config;
 import ch.zhaw.pm2.racetrack.game.AbstractFileSelector;
 import ch.zhaw.pm2.racetrack.game.AbstractGamePhaseHandler;
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSource;
 import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.DirectionCodec;
 import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.game.warmup.WarmUpReport;
 import ch.zhaw.pm2.racetrack.given.ConfigSpecification.StrategyType;
 import ch.zhaw.pm2.racetrack.textbased.file.selector.TerminalBasedFollowerFileSelector;
 import ch.zhaw.pm2.racetrack.textbased.file.selector.TerminalBasedMoveListFileSelector;
 import ch.zhaw.pm2.racetrack.textbased.file.selector.TerminalBasedTrackFileSelector;
 
+import java.io.File;
 import java.util.List;
 
+import static ch.zhaw.pm2.racetrack.textbased.io.TextIOHelper.flush;
+import static ch.zhaw.pm2.racetrack.textbased.io.TextIOHelper.print;
 import static ch.zhaw.pm2.racetrack.textbased.io.TextIOHelper.println;
 import static ch.zhaw.pm2.racetrack.textbased.io.TextIOHelper.readIntFromTerminal;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * This class loads the config and sets up a text based game instance
@@ -23,6 +31,13 @@ import static ch.zhaw.pm2.racetrack.textbased.io.TextIOHelper.readIntFromTermina
  */
 public class TextBasedGamePhaseHandler extends AbstractGamePhaseHandler {
     private static final int FIRST_OPTION = 0;
+    private static final double NANOS_PER_MILLISECOND = 1_000_000.0;
+
+    // Shows a window around the current car if the config sets a viewport, null to show the whole track
+    private final ViewportTrackRenderer viewportTrackRenderer;
+
+    // Redraws only the changed cells of the track if the config asks for an ANSI terminal, null otherwise
+    private final AnsiTrackRenderer ansiTrackRenderer;
 
     /**
      * Initializes the text based game phase handler with the related methods for text based game instance.
@@ -31,6 +46,21 @@ public class TextBasedGamePhaseHandler extends AbstractGamePhaseHandler {
      */
     public TextBasedGamePhaseHandler(Config config) {
         super(config);
+        viewportTrackRenderer = config.getViewportWidth() > 0
+            ? new ViewportTrackRenderer(config.getViewportWidth(), config.getViewportHeight()) : null;
+        ansiTrackRenderer = config.isAnsiTerminal() && viewportTrackRenderer == null ? new AnsiTrackRenderer() : null;
+    }
+
+    /**
+     * Plays the game and writes all buffered output to the terminal before returning.
+     */
+    @Override
+    public void startGame() {
+        try {
+            super.startGame();
+        } finally {
+            flush();
+        }
     }
 
     /**
@@ -55,12 +85,51 @@ public class TextBasedGamePhaseHandler extends AbstractGamePhaseHandler {
      */
     @Override
     protected void displayChangeOfTurns(char currentCarId) {
+        if (ansiTrackRenderer != null) {
+            print(ansiTrackRenderer.render(getGame().getTrack()) + ansiTrackRenderer.clearBelowTrack());
+        }
         println("Player " + currentCarId + " turn.");
     }
 
     @Override
     protected void displayTrack(Track track) {
-        println(track.toString());
+        if (viewportTrackRenderer != null) {
+            final String viewport = viewportTrackRenderer.renderAround(track,
+                track.getCarPos(getGame().getCurrentCarIndex()));
+            println("Showing the track from column " + viewportTrackRenderer.getLeft() + " and row "
+                + viewportTrackRenderer.getTop() + " of " + track.getWidth() + " x " + track.getHeight() + "\n" + viewport);
+        } else if (ansiTrackRenderer != null) {
+            print(ansiTrackRenderer.render(track));
+        } else {
+            println(track.toString());
+        }
+    }
+
+    @Override
+    protected void displayRaceProgress(int turns) {
+        if (ansiTrackRenderer != null) {
+            print(ansiTrackRenderer.clearBelowTrack());
+        }
+        int racingCars = 0;
+        for (Car car : getGame().getTrack().getCarsOnTrack()) {
+            if (!car.isCrashed()) {
+                racingCars++;
+            }
+        }
+        println("Fast forwarding: " + turns + " turns played, " + racingCars + " of "
+            + getGame().getTrack().getCarCount() + " cars racing.");
+    }
+
+    @Override
+    protected void informUserAboutEngineWarmUp(WarmUpReport report) {
+        final String rounds = String.format("%d rounds in %d ms, round time %.2f ms at first and %.2f ms at last.",
+            report.getRounds(), NANOSECONDS.toMillis(report.getElapsedNanos()),
+            report.getFirstRoundNanos() / NANOS_PER_MILLISECOND, report.getLastRoundNanos() / NANOS_PER_MILLISECOND);
+        if (report.isWarm()) {
+            println("Engine warm after " + rounds);
+        } else {
+            println("Engine warm up stopped before the round times stabilized after " + rounds);
+        }
     }
 
     @Override
@@ -73,6 +142,16 @@ public class TextBasedGamePhaseHandler extends AbstractGamePhaseHandler {
         println("Only 1 user is allowed to select the path follower strategy. Please select another strategy.");
     }
 
+    @Override
+    protected void informUserAboutRaceJournalNotSaved(File journalFile) {
+        println("The race journal could not be saved to " + journalFile.getPath() + ".");
+    }
+
+    @Override
+    protected void informUserAboutMetricsNotPublished() {
+        println("The metrics of the game could not be published.");
+    }
+
     /**
      * The text based specific implementation of retrieving the movement strategy used for the current playthrough
      */
@@ -99,8 +178,8 @@ public class TextBasedGamePhaseHandler extends AbstractGamePhaseHandler {
      */
     @Override
     protected int promptAcceleration() {
-        final int lastIndex = Direction.values().length - 1;
-        println("Please enter a number between " + Direction.values()[FIRST_OPTION].ordinal() + " and " + Direction.values()[lastIndex].ordinal() + " to determine your acceleration Vector\n" + getAccelerationGridRepresentation());
+        final int lastIndex = DirectionCodec.DIRECTION_COUNT - 1;
+        println("Please enter a number between " + FIRST_OPTION + " and " + lastIndex + " to determine your acceleration Vector\n" + getAccelerationGridRepresentation());
         return readIntFromTerminal(FIRST_OPTION, lastIndex, "Selection");
     }
 
@@ -111,11 +190,11 @@ public class TextBasedGamePhaseHandler extends AbstractGamePhaseHandler {
 
     @Override
     protected AbstractFileSelector<List<Direction>> getFollowerFileLoader() {
-        return new TerminalBasedFollowerFileSelector(getConfig(), getGame().getTrack().getCar(getGame().getCurrentCarIndex()));
+        return new TerminalBasedFollowerFileSelector(getConfig(), getGame().getTrack(), getGame().getTrack().getCar(getGame().getCurrentCarIndex()));
     }
 
     @Override
-    protected AbstractFileSelector<List<Direction>> getMoveListFileLoader() {
+    protected AbstractFileSelector<DirectionSource> getMoveListFileLoader() {
         return new TerminalBasedMoveListFileSelector(getConfig());
     }
 
@@ -0,0 +1,109 @@
+package ch.zhaw.pm2.racetrack.textbased;
+
+import ch.zhaw.pm2.racetrack.game.Car;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+
+import java.util.List;
+
+/**
+ * Renders a window of a track, so tracks larger than the terminal stay playable.
+ *
+ * <p>Only the cells inside the window are read from the grid and the cars are placed on top of them afterwards, so
+ * rendering costs the same on any track, no matter how large. The window is either centered on a position, usually
+ * the car whose turn it is, or placed at a given region. It never reaches beyond the track and shrinks to the track
+ * if the track is smaller than the window.</p>
+ *
+ * @version 1.0.0
+ */
+public class ViewportTrackRenderer {
+    private final int viewportWidth;
+    private final int viewportHeight;
+    private final StringBuilder output;
+    private int left;
+    private int top;
+
+    /**
+     * Creates a renderer with a window of the given size.
+     *
+     * @param viewportWidth  the amount of columns shown
+     * @param viewportHeight the amount of rows shown
+     * @throws IllegalArgumentException if the window is empty
+     */
+    public ViewportTrackRenderer(int viewportWidth, int viewportHeight) {
+        if (viewportWidth < 1 || viewportHeight < 1) {
+            throw new IllegalArgumentException("Viewport must not be empty");
+        }
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        output = new StringBuilder((viewportWidth + 1) * viewportHeight);
+    }
+
+    /**
+     * Renders the window centered on a position, like the position of the car whose turn it is.
+     *
+     * @param track  the track to render
+     * @param center the position in the middle of the window
+     * @return the rows of the window, each ending with a line break
+     */
+    public String renderAround(Track track, PositionVector center) {
+        return render(track, center.getX() - viewportWidth / 2, center.getY() - viewportHeight / 2);
+    }
+
+    /**
+     * Renders the window with its top left corner at the given cell, moved onto the track if it reaches beyond it.
+     *
+     * @param track the track to render
+     * @param left  the first column shown
+     * @param top   the first row shown
+     * @return the rows of the window, each ending with a line break
+     */
+    public String render(Track track, int left, int top) {
+        final int width = Math.min(viewportWidth, track.getWidth());
+        final int height = Math.min(viewportHeight, track.getHeight());
+        this.left = Math.max(0, Math.min(left, track.getWidth() - width));
+        this.top = Math.max(0, Math.min(top, track.getHeight() - height));
+        output.setLength(0);
+        for (int y = this.top; y < this.top + height; y++) {
+            for (int x = this.left; x < this.left + width; x++) {
+                output.append(track.getSpaceType(x, y).getValue());
+            }
+            output.append('\n');
+        }
+        final List<Car> cars = track.getCarsOnTrack();
+        for (int carIndex = cars.size() - 1; carIndex >= 0; carIndex--) {
+            placeCar(cars.get(carIndex), width, height);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Shows a car on its cell if the cell is inside the window. Cars are placed in reverse, so the first car on a
+     * cell is shown like in {@link Track#toString()}.
+     */
+    private void placeCar(Car car, int width, int height) {
+        final int column = car.getPosition().getX() - left;
+        final int row = car.getPosition().getY() - top;
+        if (column >= 0 && row >= 0 && column < width && row < height) {
+            output.setCharAt(row * (width + 1) + column, car.isCrashed() ? Track.CRASH_INDICATOR : car.getId());
+        }
+    }
+
+    /**
+     * Returns the first column shown by the latest rendering.
+     *
+     * @return the x coordinate of the left edge of the window
+     */
+    public int getLeft() {
+        return left;
+    }
+
+    /**
+     * Returns the first row shown by the latest rendering.
+     *
+     * @return the y coordinate of the top edge of the window
+     */
+    public int getTop() {
+        return top;
+    }
+}
@@ -3,6 +3,7 @@ package ch.zhaw.pm2.racetrack.textbased.file.selector;
 import ch.zhaw.pm2.racetrack.Config;
 import ch.zhaw.pm2.racetrack.game.Car;
 import ch.zhaw.pm2.racetrack.game.path.follower.FollowerLoader;
+import ch.zhaw.pm2.racetrack.game.track.Track;
 import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
 
 import java.io.File;
@@ -16,16 +17,19 @@ import java.util.List;
  * @version 1.0.0
  */
 public class TerminalBasedFollowerFileSelector extends AbstractTextBasedFileSelector<List<Direction>> {
+    private final Track track;
     private final Car car;
 
     /**
      * Initializing follower file selector with a config object specifying the directory of the follower files
      *
      * @param config the config object containing required information about the follower directory
+     * @param track  the track the car drives on
      * @param car    the car that selected the Path Follower Strategy
      */
-    public TerminalBasedFollowerFileSelector(Config config, Car car) {
+    public TerminalBasedFollowerFileSelector(Config config, Track track, Car car) {
         super(config);
+        this.track = track;
         this.car = car;
     }
 
@@ -37,7 +41,7 @@ public class TerminalBasedFollowerFileSelector extends AbstractTextBasedFileSele
     @Override
     public List<Direction> loadSelectedFile(File selectedFollowerFile) {
         try {
-            return new FollowerLoader().loadFollowerFile(selectedFollowerFile, car);
+            return new FollowerLoader().loadFollowerFile(selectedFollowerFile, track, car);
         } catch (IOException e) {
             notifyUserOfSelectionFail();
             return selectFile();
@@ -1,12 +1,11 @@
 package ch.zhaw.pm2.racetrack.textbased.file.selector;
 
 import ch.zhaw.pm2.racetrack.Config;
+import ch.zhaw.pm2.racetrack.game.movelist.DirectionSource;
 import ch.zhaw.pm2.racetrack.game.movelist.MoveListLoader;
-import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * The text based specific implementation of the move list file loader
@@ -14,7 +13,7 @@ import java.util.List;
  * @author weberph5
  * @version 1.0.0
  */
-public class TerminalBasedMoveListFileSelector extends AbstractTextBasedFileSelector<List<Direction>> {
+public class TerminalBasedMoveListFileSelector extends AbstractTextBasedFileSelector<DirectionSource> {
 
     /**
      * Initializing move list file selector with a config object specifying the directory of the follower files
@@ -31,9 +30,9 @@ public class TerminalBasedMoveListFileSelector extends AbstractTextBasedFileSele
     }
 
     @Override
-    public List<Direction> loadSelectedFile(File selectedMoveListFile) {
+    public DirectionSource loadSelectedFile(File selectedMoveListFile) {
         try {
-            return new MoveListLoader().loadMoveListFile(selectedMoveListFile);
+            return new MoveListLoader().openMoveListFile(selectedMoveListFile);
         } catch (IOException e) {
             notifyUserOfSelectionFail();
             return selectFile();
@@ -2,11 +2,10 @@ package ch.zhaw.pm2.racetrack.textbased.file.selector;
 
 import ch.zhaw.pm2.racetrack.Config;
 import ch.zhaw.pm2.racetrack.game.track.Track;
-import ch.zhaw.pm2.racetrack.game.track.TrackLoader;
+import ch.zhaw.pm2.racetrack.game.track.TrackCache;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * The text based specific implementation of the track file loader
@@ -32,18 +31,10 @@ public class TerminalBasedTrackFileSelector extends AbstractTextBasedFileSelecto
     @Override
     public Track loadSelectedFile(File selectedTrackFile) {
         try {
-            final TrackLoader trackloader = new TrackLoader();
-            final List<String> trackFileRows = trackloader.loadTrackFile(selectedTrackFile);
-            if (trackloader.isTrackFileValid(trackFileRows)) {
-                return new Track(trackFileRows);
-            } else {
-                notifyUserOfSelectionFail();
-                selectFile();
-            }
+            return new TrackCache(getConfig().getTrackCacheDirectory()).loadTrack(selectedTrackFile);
         } catch (IOException e) {
             notifyUserOfSelectionFail();
-            selectFile();
+            return selectFile();
         }
-        return selectFile();
     }
 }
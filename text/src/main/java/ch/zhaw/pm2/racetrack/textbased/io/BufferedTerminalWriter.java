@@ -0,0 +1,137 @@
+package ch.zhaw.pm2.racetrack.textbased.io;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Collects the output for a terminal in a buffer which is written to the terminal on a background thread.
+ *
+ * <p>Writing only appends to the buffer, so the game does not wait for a slow terminal, like a file on a slow disk
+ * or a remote session. The background thread writes everything buffered in a single batch, so the more the game
+ * outpaces the terminal, the larger and fewer the writes. Only if the terminal falls behind by more than the buffer
+ * limit, writing waits for the terminal to catch up, keeping the memory of the buffer bounded.</p>
+ *
+ * <p>{@link #flush()} writes the buffer immediately and has to be called before reading from the terminal, so the
+ * prompt is shown on a complete screen.</p>
+ *
+ * @version 1.0.0
+ */
+public class BufferedTerminalWriter implements Closeable {
+    /**
+     * Amount of buffered characters after which writing waits for the terminal, if no limit is given.
+     */
+    public static final int DEFAULT_MAX_BUFFERED_CHARS = 1 << 20;
+
+    private final Consumer<String> terminal;
+    private final int maxBufferedChars;
+    private final Object terminalLock = new Object();
+    private final StringBuilder buffer = new StringBuilder();
+    private final Thread flushThread;
+    private boolean closed;
+
+    /**
+     * Creates a writer buffering at most {@link #DEFAULT_MAX_BUFFERED_CHARS} characters.
+     *
+     * @param terminal writes a batch of text to the terminal
+     */
+    public BufferedTerminalWriter(Consumer<String> terminal) {
+        this(terminal, DEFAULT_MAX_BUFFERED_CHARS);
+    }
+
+    /**
+     * Creates a writer and starts its background thread.
+     *
+     * @param terminal         writes a batch of text to the terminal
+     * @param maxBufferedChars the amount of buffered characters after which writing waits for the terminal
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public BufferedTerminalWriter(Consumer<String> terminal, int maxBufferedChars) {
+        this.terminal = Objects.requireNonNull(terminal);
+        if (maxBufferedChars < 1) {
+            throw new IllegalArgumentException("Buffer limit must be positive");
+        }
+        this.maxBufferedChars = maxBufferedChars;
+        flushThread = new Thread(this::flushContinuously, "terminal-output");
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    /**
+     * Appends text to the buffer, waiting only if the buffer is full.
+     *
+     * @param text the text to write
+     * @throws IllegalStateException if the writer is closed
+     */
+    public synchronized void write(String text) {
+        Objects.requireNonNull(text);
+        while (buffer.length() >= maxBufferedChars && !closed) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (closed) {
+            throw new IllegalStateException("Terminal writer is closed");
+        }
+        if (buffer.length() == 0) {
+            notifyAll();
+        }
+        buffer.append(text);
+    }
+
+    /**
+     * Writes everything buffered to the terminal and returns once it is written.
+     */
+    public void flush() {
+        synchronized (terminalLock) {
+            final String text;
+            synchronized (this) {
+                if (buffer.length() == 0) {
+                    return;
+                }
+                text = buffer.toString();
+                buffer.setLength(0);
+                notifyAll();
+            }
+            terminal.accept(text);
+        }
+    }
+
+    private void flushContinuously() {
+        while (true) {
+            synchronized (this) {
+                while (buffer.length() == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (buffer.length() == 0) {
+                    return;
+                }
+            }
+            flush();
+        }
+    }
+
+    /**
+     * Writes everything buffered to the terminal and stops the background thread.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        flush();
+        try {
+            flushThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,11 +8,22 @@ import org.beryx.textio.TextTerminal;
  * Static Class with methods to be used for specific Terminal In-/Outputs.
  * TextIO and TextTerminal Objects are only instanced here and don't need to be instanced separately by the users
  * of these Methods.
+ * The output is buffered and written to the terminal on a background thread, so the game does not wait for the
+ * terminal. The buffer is flushed before any input is read.
+ * The terminal is only set up once it is used for the first time, as detecting it takes a noticeable part of the
+ * startup. Output written before reaches it through the background thread, so only reading input waits for it.
  */
 public final class TextIOHelper {
 
-    private static final TextIO TEXT_IO = TextIoFactory.getTextIO();
-    private static final TextTerminal<?> TEXT_TERMINAL = TEXT_IO.getTextTerminal();
+    private static final BufferedTerminalWriter OUTPUT = new BufferedTerminalWriter(text -> Terminal.TEXT_TERMINAL.print(text));
+
+    /**
+     * Holds the terminal, which the JVM sets up when this class is used for the first time.
+     */
+    private static final class Terminal {
+        private static final TextIO TEXT_IO = TextIoFactory.getTextIO();
+        private static final TextTerminal<?> TEXT_TERMINAL = TEXT_IO.getTextTerminal();
+    }
 
     /**
      * Private Constructor so no object of this class can ever be created.
@@ -26,7 +37,23 @@ public final class TextIOHelper {
      * @param lineToPrint Text that will be Printed to the Terminal
      */
     public static void println(String lineToPrint) {
-        TEXT_TERMINAL.println(lineToPrint);
+        OUTPUT.write(lineToPrint + "\n");
+    }
+
+    /**
+     * Print method, not ending the line
+     *
+     * @param textToPrint Text that will be Printed to the Terminal
+     */
+    public static void print(String textToPrint) {
+        OUTPUT.write(textToPrint);
+    }
+
+    /**
+     * Writes all buffered output to the terminal and waits until it is written.
+     */
+    public static void flush() {
+        OUTPUT.flush();
     }
 
     /**
@@ -40,7 +67,8 @@ public final class TextIOHelper {
      * @return The valid Number, added by the Player.
      */
     public static int readIntFromTerminal(int min, int max, String contextMessage) {
-        return TEXT_IO.newIntInputReader().withMinVal(min).withMaxVal(max).read(contextMessage);
+        flush();
+        return Terminal.TEXT_IO.newIntInputReader().withMinVal(min).withMaxVal(max).read(contextMessage);
     }
 
     /**
@@ -50,6 +78,7 @@ public final class TextIOHelper {
      * @return the return value of the user input
      */
     public static String readStringFromTerminal(String contextMessage) {
-        return TEXT_IO.newStringInputReader().read(contextMessage);
+        flush();
+        return Terminal.TEXT_IO.newStringInputReader().read(contextMessage);
     }
 }
@@ -0,0 +1,98 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.textbased.AnsiTrackRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the output of the ANSI track renderer.
+ */
+public class AnsiTrackRendererTest {
+    private static final Pattern CELL_UPDATE = Pattern.compile("\u001b\\[(\\d+);(\\d+)H(.)");
+    private static final String CLEAR_SCREEN = "\u001b[H\u001b[2J";
+    private static final int MAX_SPEED = 3;
+
+    /**
+     * Tests whether the cell updates of a race bring the first drawing of the track up to date.
+     */
+    @Test
+    public void deltaOutputTest() {
+        final Track track = new Track(createHorizontalTrack());
+        final Game game = new Game(track);
+        final AnsiTrackRenderer renderer = new AnsiTrackRenderer();
+        assertEquals("", renderer.clearBelowTrack());
+        final String firstOutput = renderer.render(track);
+        assertEquals(CLEAR_SCREEN + track, firstOutput);
+        final char[][] screen = toScreen(track.toString());
+        assertEquals("", renderer.render(track));
+        assertEquals("\u001b[5;1H\u001b[J", renderer.clearBelowTrack());
+
+        while (!game.hasWinner()) {
+            final boolean accelerate = game.getCurrentCarIndex() == 0 && game.getCarVelocity(0).getX() < MAX_SPEED;
+            game.doCarTurn(accelerate ? Direction.RIGHT : Direction.NONE);
+            game.switchToNextActiveCar();
+            final String output = renderer.render(track);
+            assertTrue(applyCellUpdates(output, screen) <= 2 * track.getCarCount());
+            assertTrue(output.length() < firstOutput.length() / 4);
+            assertEquals(track.toString(), toString(screen));
+        }
+    }
+
+    /**
+     * Tests whether a crash is redrawn.
+     */
+    @Test
+    public void crashOutputTest() {
+        final Track track = new Track(createHorizontalTrack());
+        final Game game = new Game(track);
+        final AnsiTrackRenderer renderer = new AnsiTrackRenderer();
+        final char[][] screen = toScreen(renderer.render(track).substring(CLEAR_SCREEN.length()));
+        game.doCarTurn(Direction.UP);
+        final String output = renderer.render(track);
+        assertTrue(output.startsWith("\u001b7"));
+        assertTrue(output.endsWith("\u001b8"));
+        assertEquals(2, applyCellUpdates(output, screen));
+        assertEquals(Track.CRASH_INDICATOR, screen[0][1]);
+        assertEquals(track.toString(), toString(screen));
+    }
+
+    /**
+     * Writes the cursor addressed cells of the output into the screen.
+     *
+     * @return the amount of written cells
+     */
+    private static int applyCellUpdates(String output, char[][] screen) {
+        final Matcher matcher = CELL_UPDATE.matcher(output);
+        int cells = 0;
+        while (matcher.find()) {
+            screen[Integer.parseInt(matcher.group(1)) - 1][Integer.parseInt(matcher.group(2)) - 1] = matcher.group(3).charAt(0);
+            cells++;
+        }
+        return cells;
+    }
+
+    private static char[][] toScreen(String track) {
+        final String[] rows = track.split("\n");
+        final char[][] screen = new char[rows.length][];
+        for (int row = 0; row < rows.length; row++) {
+            screen[row] = rows[row].toCharArray();
+        }
+        return screen;
+    }
+
+    private static String toString(char[][] screen) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (char[] row : screen) {
+            stringBuilder.append(row).append('\n');
+        }
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.textbased.io.BufferedTerminalWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the buffered output of the text based game.
+ */
+public class BufferedTerminalWriterTest {
+    private static final int LINE_COUNT = 1000;
+    private static final long SLOW_TERMINAL_NANOS = 1_000_000;
+    private static final int BUFFER_LIMIT = 10;
+
+    /**
+     * Tests whether the output of a slow terminal arrives complete and in order, batched into fewer writes.
+     */
+    @Test
+    public void slowTerminalTest() {
+        final List<String> batches = new CopyOnWriteArrayList<>();
+        final StringBuilder expectedOutput = new StringBuilder();
+        try (BufferedTerminalWriter writer = new BufferedTerminalWriter(text -> {
+            LockSupport.parkNanos(SLOW_TERMINAL_NANOS);
+            batches.add(text);
+        })) {
+            for (int line = 0; line < LINE_COUNT; line++) {
+                writer.write(line + "\n");
+                expectedOutput.append(line).append('\n');
+            }
+            writer.flush();
+            assertEquals(expectedOutput.toString(), String.join("", batches));
+            assertTrue(batches.size() < LINE_COUNT);
+            writer.write("last\n");
+        }
+        assertEquals(expectedOutput + "last\n", String.join("", batches));
+    }
+
+    /**
+     * Tests whether writing waits for a stuck terminal once the buffer is full.
+     */
+    @Test
+    public void fullBufferTest() throws InterruptedException {
+        final CountDownLatch terminalReleased = new CountDownLatch(1);
+        final StringBuffer output = new StringBuffer();
+        final BufferedTerminalWriter writer = new BufferedTerminalWriter(text -> {
+            try {
+                terminalReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            output.append(text);
+        }, BUFFER_LIMIT);
+        final Thread gameThread = new Thread(() -> {
+            for (int chunk = 0; chunk < 3; chunk++) {
+                writer.write("0123456789");
+            }
+        });
+        gameThread.start();
+        gameThread.join(200);
+        assertTrue(gameThread.isAlive());
+        terminalReleased.countDown();
+        gameThread.join();
+        writer.close();
+        assertEquals("0123456789".repeat(3), output.toString());
+        assertThrows(IllegalStateException.class, () -> writer.write("closed"));
+        assertThrows(IllegalArgumentException.class, () -> new BufferedTerminalWriter(text -> { }, 0));
+    }
+}
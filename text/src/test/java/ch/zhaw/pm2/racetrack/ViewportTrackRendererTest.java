@@ -0,0 +1,54 @@
+package ch.zhaw.pm2.racetrack;
+
+import ch.zhaw.pm2.racetrack.game.Game;
+import ch.zhaw.pm2.racetrack.game.track.Track;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector;
+import ch.zhaw.pm2.racetrack.game.util.PositionVector.Direction;
+import ch.zhaw.pm2.racetrack.textbased.ViewportTrackRenderer;
+import org.junit.jupiter.api.Test;
+
+import static ch.zhaw.pm2.racetrack.helpers.TestTrackCreationUtil.createHorizontalTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the window of the track shown on large tracks.
+ */
+public class ViewportTrackRendererTest {
+
+    /**
+     * Tests whether a window as large as the track shows the same as the track itself.
+     */
+    @Test
+    public void wholeTrackTest() {
+        final Track track = new Track(createHorizontalTrack());
+        final Game game = new Game(track);
+        game.doCarTurn(Direction.RIGHT);
+        game.switchToNextActiveCar();
+        game.doCarTurn(Direction.UP);
+        final ViewportTrackRenderer renderer = new ViewportTrackRenderer(100, 100);
+        assertEquals(track.toString(), renderer.renderAround(track, track.getCarPos(0)));
+        assertEquals(0, renderer.getLeft());
+        assertEquals(0, renderer.getTop());
+    }
+
+    /**
+     * Tests whether the window follows a position and stays on the track.
+     */
+    @Test
+    public void followPositionTest() {
+        final Track track = new Track(createHorizontalTrack());
+        final ViewportTrackRenderer renderer = new ViewportTrackRenderer(5, 3);
+        assertEquals("#####\n#a   \n#b   \n", renderer.renderAround(track, track.getCarPos(0)));
+        assertEquals(0, renderer.getLeft());
+        assertEquals(0, renderer.getTop());
+
+        assertEquals("     \n     \n#####\n", renderer.renderAround(track, new PositionVector(12, 3)));
+        assertEquals(10, renderer.getLeft());
+        assertEquals(1, renderer.getTop());
+
+        assertEquals("  > #\n  > #\n#####\n", renderer.render(track, 100, 100));
+        assertEquals(25, renderer.getLeft());
+        assertEquals(1, renderer.getTop());
+        assertThrows(IllegalArgumentException.class, () -> new ViewportTrackRenderer(0, 3));
+    }
+}